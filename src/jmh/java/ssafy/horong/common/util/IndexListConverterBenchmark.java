@@ -0,0 +1,91 @@
+package ssafy.horong.common.util;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * gtIdx/hypIdx 저장 형식 비교. 기존 JSON 문자열(ListToStringConverter)과 varint 바이트(PackedIntArrayConverter).
+ * 저장 크기는 encode 결과에 보조 카운터(jsonBytes, packedBytes)로 함께 나온다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IndexListConverterBenchmark {
+
+    // 단어 한 개, 짧은 문장, 긴 문장 수준의 글자 수
+    @Param({"5", "20", "100"})
+    public int length;
+
+    private final ListToStringConverter jsonConverter = new ListToStringConverter();
+    private final PackedIntArrayConverter packedConverter = new PackedIntArrayConverter();
+
+    private List<Integer> list;
+    private int[] array;
+    private String json;
+    private byte[] packed;
+
+    /**
+     * 값 하나를 저장했을 때의 바이트 수. JMH가 반복마다 0으로 돌리므로 encode에서 결과 길이를 적는다.
+     * EVENTS 카운터는 스레드별 값을 더해 보고하므로 단일 스레드로 실행하면 그대로 크기다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class JsonSize {
+        public int jsonBytes;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PackedSize {
+        public int packedBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        // 채점 결과처럼 대부분 1씩 증가하고 가끔 건너뛰는 인덱스
+        array = new int[length];
+        for (int i = 0, index = 0; i < length; i++) {
+            index += (i % 7 == 6) ? 2 : 1;
+            array[i] = index;
+        }
+        list = Arrays.stream(array).boxed().toList();
+        json = jsonConverter.convertToDatabaseColumn(list);
+        packed = packedConverter.convertToDatabaseColumn(array);
+    }
+
+    @Benchmark
+    public String jsonEncode(JsonSize size) {
+        String encoded = jsonConverter.convertToDatabaseColumn(list);
+        // 숫자와 기호뿐인 JSON이라 글자 수가 곧 바이트 수다
+        size.jsonBytes = encoded.length();
+        return encoded;
+    }
+
+    @Benchmark
+    public List<Integer> jsonDecode() {
+        return jsonConverter.convertToEntityAttribute(json);
+    }
+
+    @Benchmark
+    public byte[] packedEncode(PackedSize size) {
+        byte[] encoded = packedConverter.convertToDatabaseColumn(array);
+        size.packedBytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public int[] packedDecode() {
+        return packedConverter.convertToEntityAttribute(packed);
+    }
+}
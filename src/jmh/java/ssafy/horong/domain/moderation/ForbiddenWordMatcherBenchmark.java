@@ -0,0 +1,66 @@
+package ssafy.horong.domain.moderation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 방식(금칙어 set 전체에 대해 String.contains)과 Aho-Corasick 오토마톤 비교.
+ * 기존 방식의 SMEMBERS 네트워크 비용은 포함하지 않은 순수 CPU 비교이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ForbiddenWordMatcherBenchmark {
+
+    @Param({"호롱이친구", "cleanNickname2024", "아주긴닉네임이지만금칙어는없는경우입니다"})
+    public String text;
+
+    private Set<String> forbiddenWords;
+    private ForbiddenWordAutomaton automaton;
+
+    @Setup
+    public void setUp() throws IOException {
+        forbiddenWords = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("slang.csv")), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.trim();
+                if (!word.isEmpty()) {
+                    forbiddenWords.add(word);
+                }
+            }
+        }
+        automaton = ForbiddenWordAutomaton.compile(forbiddenWords, MatchOptions.IDENTIFIER);
+    }
+
+    @Benchmark
+    public boolean linearContains() {
+        for (String word : forbiddenWords) {
+            if (text.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean automaton() {
+        return automaton.containsMatch(text);
+    }
+}
@@ -17,6 +17,7 @@ import ssafy.horong.api.community.request.*;
 import ssafy.horong.api.community.response.*;
 import ssafy.horong.api.health.TestRequest;
 import ssafy.horong.common.util.UserUtil;
+import ssafy.horong.domain.community.elastic.PostReindexJob;
 import ssafy.horong.domain.community.entity.BoardType;
 import ssafy.horong.domain.community.entity.ChatRoom;
 import ssafy.horong.domain.community.repository.ChatRoomRepository;
@@ -34,6 +35,7 @@ public class CommunityController {
     private final CommunityService communityService;
     private final ChatRoomRepository chatRoomRepository;
     private final UserUtil userUtil;
+    private final PostReindexJob postReindexJob;
 
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @Operation(summary = "게시글 생성", description = """
@@ -123,6 +125,15 @@ public class CommunityController {
         return CommonResponse.ok(response);
     }
 
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
+    @Operation(summary = "게시글 검색 인덱스 재색인", description = "게시글 검색 인덱스를 새 버전으로 다시 만들고 alias를 교체하는 관리자 API입니다.")
+    @PostMapping("/admin/search-index/reindex")
+    public CommonResponse<String> reindexPosts() {
+        String indexName = postReindexJob.start();
+        log.info("[CommunityController] 게시글 재색인 시작 >>>> index: {}", indexName);
+        return CommonResponse.ok("게시글 재색인이 시작되었습니다.", indexName);
+    }
+
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @Operation(summary = "메시지 전송", description = "메시지를 전송하는 API입니다.")
     @PostMapping("/messages")
@@ -135,9 +146,13 @@ public class CommunityController {
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @Operation(summary = "메시지 리스트 조회", description = "메시지 리스트를 조회하는 API입니다.")
     @GetMapping("/messages/{chatroomId}")
-    public CommonResponse<GetPostIdAndMessageListResponse> getMessageList(@PathVariable Long chatroomId) {
-        log.info("[CommunityController] 메시지 리스트 조회 >>>> senderId: {}", chatroomId);
-        GetMessageListRequest request = new GetMessageListRequest(chatroomId);
+    public CommonResponse<GetPostIdAndMessageListResponse> getMessageList(
+            @PathVariable Long chatroomId,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "30") int size) {
+        log.info("[CommunityController] 메시지 리스트 조회 >>>> chatroomId: {}, beforeId: {}, afterId: {}", chatroomId, beforeId, afterId);
+        GetMessageListRequest request = new GetMessageListRequest(chatroomId, beforeId, afterId, size);
         GetPostIdAndMessageListResponse messageList = communityService.getMessageList(request.toCommand());
         return CommonResponse.ok(messageList);
     }
@@ -145,9 +160,10 @@ public class CommunityController {
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @Operation(summary = "모든 메시지 리스트 조회", description = "모든 메시지 리스트를 조회하는 API입니다.")
     @GetMapping("/messages")
-    public CommonResponse<List<GetAllMessageListResponse>> getAllMessageList() {
+    public CommonResponse<List<GetAllMessageListResponse>> getAllMessageList(
+            @Parameter(hidden = true) @PageableDefault(size = 20) Pageable pageable) {
         log.info("[CommunityController] 모든 메시지 리스트 조회");
-        List<GetAllMessageListResponse> response = communityService.getAllMessageList();
+        List<GetAllMessageListResponse> response = communityService.getAllMessageList(pageable);
         return CommonResponse.ok(response);
     }
 
@@ -6,7 +6,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ssafy.horong.api.CommonResponse;
-import ssafy.horong.common.util.NotificationUtil;
 import ssafy.horong.common.util.UserUtil;
 import ssafy.horong.domain.community.entity.Notification;
 import ssafy.horong.domain.community.service.NotificationService;
@@ -20,7 +19,6 @@ import ssafy.horong.domain.member.repository.UserRepository;
 public class NotificationController {
 
     private final NotificationService notificationService;
-    private final NotificationUtil notificationUtil;
     private final UserRepository userRepository;
     private final UserUtil userUtil;
 
@@ -35,8 +33,7 @@ public class NotificationController {
     @Operation(summary = "알림 스트림", description = "알림을 스트림으로 전송합니다.")
     @GetMapping("/stream")
     public SseEmitter streamNotifications() {
-        System.out.println("streamNotifications 메서드 호출됨 - 호출 원인 확인 필요");
-        return notificationUtil.createSseEmitter();
+        return notificationService.subscribe();
     }
 
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
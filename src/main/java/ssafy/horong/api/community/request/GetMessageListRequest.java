@@ -6,9 +6,18 @@ import ssafy.horong.domain.community.command.GetMessageListCommand;
 @Schema(description = "메시지 리스트 요청")
 public record GetMessageListRequest(
         @Schema(description = "방 ID", example = "1")
-        Long roomId
+        Long roomId,
+
+        @Schema(description = "이 메시지 id보다 이전 메시지 조회", example = "120")
+        Long beforeId,
+
+        @Schema(description = "이 메시지 id보다 이후 메시지 조회", example = "150")
+        Long afterId,
+
+        @Schema(description = "조회할 메시지 수", example = "30")
+        int size
 ) {
     public GetMessageListCommand toCommand() {
-        return new GetMessageListCommand(roomId);
+        return new GetMessageListCommand(roomId, beforeId, afterId, size);
     }
 }
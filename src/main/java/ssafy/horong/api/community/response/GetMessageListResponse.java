@@ -4,6 +4,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import ssafy.horong.domain.community.entity.Message;
 
 public record GetMessageListResponse(
+        @Schema(description = "메시지 id (이전/다음 페이지 조회 커서)", example = "1")
+        Long messageId,
+
         @Schema(description = "메시지 내용", example = "안녕하세요")
         String content,
 
@@ -25,7 +28,7 @@ public record GetMessageListResponse(
         @Schema(description = "사용자여부", example = "USER")
         Message.UserMessageType userMessageType
 ) {
-    public GetMessageListResponse of(String content, String image, String senderNickname, Long senderId, String profileImage ,String createdAt, Message.UserMessageType userMessageType) {
-        return new GetMessageListResponse(content, image, senderNickname, senderId, profileImage, createdAt, userMessageType);
+    public GetMessageListResponse of(Long messageId, String content, String image, String senderNickname, Long senderId, String profileImage ,String createdAt, Message.UserMessageType userMessageType) {
+        return new GetMessageListResponse(messageId, content, image, senderNickname, senderId, profileImage, createdAt, userMessageType);
     }
 }
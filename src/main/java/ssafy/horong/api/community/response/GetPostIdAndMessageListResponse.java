@@ -9,10 +9,12 @@ public record GetPostIdAndMessageListResponse(
         Long postId,
         @Schema(description = "상대 id", example = "1")
         Long otherId,
-        @Schema(description = "메시지 리스트")
-        List<GetMessageListResponse> messageList
+        @Schema(description = "메시지 리스트 (오래된 순)")
+        List<GetMessageListResponse> messageList,
+        @Schema(description = "조회 방향으로 더 불러올 메시지가 있는지 여부", example = "true")
+        boolean hasMore
 ) {
-    public static GetPostIdAndMessageListResponse of(Long postId, Long otherId, List<GetMessageListResponse> messageList) {
-        return new GetPostIdAndMessageListResponse(postId, otherId, messageList);
+    public static GetPostIdAndMessageListResponse of(Long postId, Long otherId, List<GetMessageListResponse> messageList, boolean hasMore) {
+        return new GetPostIdAndMessageListResponse(postId, otherId, messageList, hasMore);
     }
 }
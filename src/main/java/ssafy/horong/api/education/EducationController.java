@@ -4,13 +4,17 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ssafy.horong.api.CommonResponse;
+import ssafy.horong.api.education.request.GetEducationRecordHistoryRequest;
 import ssafy.horong.api.education.request.SaveEduciatonRecordRequest;
 import ssafy.horong.api.education.response.TodayWordsResponse;
 import ssafy.horong.domain.education.service.EducationService;
 
+import java.time.LocalDate;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -25,24 +29,59 @@ public class EducationController {
         return CommonResponse.ok(response);
     }
 
-    @Operation(summary = "교육 기록 조회", description = "모든 교육 기록을 조회하는 API입니다.")
+    @Operation(summary = "교육 기록 조회", description = "모든 교육 기록을 조회하는 API입니다. 기록이 많으면 느리므로 교육 기록 목록 조회 API를 사용하세요.")
     @GetMapping("/records")
     public CommonResponse<?> getEducationRecord() {
         return CommonResponse.ok(educationService.getAllEducationRecord());
     }
 
-    @Operation(summary = "한국어 학습 기록", description = "한국어 학습 기록을 저장하는 API입니다.")
+    @Operation(summary = "교육 기록 목록 조회", description = "기간 안의 교육 기록을 최신순으로 페이지 단위로 조회하는 API입니다. 녹음 파일 URL은 녹음 파일 조회 API로 받습니다.")
+    @GetMapping("/records/history")
+    public CommonResponse<?> getEducationRecordHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "20") int size) {
+        GetEducationRecordHistoryRequest request = new GetEducationRecordHistoryRequest(from, to, beforeId, size);
+        return CommonResponse.ok(educationService.getEducationRecordHistory(request.toCommand()));
+    }
+
+    @Operation(summary = "단어별 학습 요약 조회", description = "단어별 녹음 횟수, 최고/평균 CER, 마지막 녹음 시각을 최근 학습순으로 조회하는 API입니다.")
+    @GetMapping("/records/words")
+    public CommonResponse<?> getEducationWordStats() {
+        return CommonResponse.ok(educationService.getEducationWordStats());
+    }
+
+    @Operation(summary = "녹음 파일 조회", description = "교육 기록의 녹음 파일 URL을 조회하는 API입니다.")
+    @GetMapping("/record/{recordId}/audio")
+    public CommonResponse<?> getEducationRecordAudio(@PathVariable Long recordId) {
+        return CommonResponse.ok(educationService.getEducationRecordAudio(recordId));
+    }
+
+    @Operation(summary = "한국어 학습 기록", description = "한국어 학습 기록을 저장하는 API입니다. 발음 채점은 저장 후 진행되며, 응답의 status가 PENDING이면 채점 결과 조회 API나 SSE 알림으로 결과를 받습니다.")
     @PostMapping(value = "/record", consumes = { "multipart/form-data" })
     public CommonResponse<?> saveEducationRecord(@ModelAttribute @Validated SaveEduciatonRecordRequest request) {
         return CommonResponse.ok(educationService.saveEducationRecord(request.toCommand()));
     }
 
+    @Operation(summary = "발음 채점 결과 조회", description = "저장한 학습 기록의 발음 채점 상태와 결과를 조회하는 API입니다.")
+    @GetMapping("/record/{recordId}/result")
+    public CommonResponse<?> getEducationRecordResult(@PathVariable Long recordId) {
+        return CommonResponse.ok(educationService.getEducationRecordResult(recordId));
+    }
+
     @Operation(summary = "스탬프 날짜 조회", description = "스탬프 날짜를 조회하는 API입니다.")
     @GetMapping("/stamps")
     public CommonResponse<?> getStampDates() {
         return CommonResponse.ok(educationService.getStampDates());
     }
 
+    @Operation(summary = "스탬프 요약 조회", description = "전체 스탬프 수, 오늘 스탬프 여부, 현재/최장 연속 학습 일수를 조회하는 API입니다.")
+    @GetMapping("/stamps/summary")
+    public CommonResponse<?> getStampSummary() {
+        return CommonResponse.ok(educationService.getStampSummary());
+    }
+
     @Operation(summary = "한국어 학습 기록 세부 조회", description = "한국어 학습 기록 세부를 조회하는 API입니다.")
     @GetMapping("/record/{wordId}")
     public CommonResponse<?> getEducationRecordDetail(@PathVariable Long wordId) {
@@ -0,0 +1,25 @@
+package ssafy.horong.api.education.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ssafy.horong.domain.education.command.GetEducationRecordHistoryCommand;
+
+import java.time.LocalDate;
+
+@Schema(description = "학습 기록 목록 요청")
+public record GetEducationRecordHistoryRequest(
+        @Schema(description = "조회 시작 날짜", example = "2024-10-01")
+        LocalDate from,
+
+        @Schema(description = "조회 종료 날짜", example = "2024-10-31")
+        LocalDate to,
+
+        @Schema(description = "이 기록 id보다 이전 기록 조회", example = "120")
+        Long beforeId,
+
+        @Schema(description = "조회할 기록 수", example = "20")
+        int size
+) {
+    public GetEducationRecordHistoryCommand toCommand() {
+        return new GetEducationRecordHistoryCommand(from, to, beforeId, size);
+    }
+}
@@ -1,8 +1,9 @@
 package ssafy.horong.api.education.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import ssafy.horong.domain.education.entity.EducationRecord;
+
 import java.net.URI;
-import java.util.List;
 
 @Schema(description = "개별 교육 기록의 세부 정보")
 public record EducationRecordResponse(
@@ -16,12 +17,26 @@ public record EducationRecordResponse(
         float cer,
 
         @Schema(description = "정답 인덱스 목록", example = "[0, 1, 2, 3, 4]")
-        List<Integer> gtIdx,
+        int[] gtIdx,
 
         @Schema(description = "예측 인덱스 목록", example = "[0, 1, 2, 3, 4]")
-        List<Integer> hypIdx,
+        int[] hypIdx,
 
         @Schema(description = "이 기록과 연관된 오디오 파일의 URI 링크", example = "https://example.com/audio.mp3")
-        URI audio
+        URI audio,
+
+        @Schema(description = "발음 채점 상태 (PENDING, SCORED, FAILED)", example = "SCORED")
+        String status
 ) {
+    public static EducationRecordResponse of(EducationRecord record, URI audio) {
+        return new EducationRecordResponse(
+                record.getId(),
+                record.getText(),
+                record.getCer(),
+                record.getGtIdx(),
+                record.getHypIdx(),
+                audio,
+                record.getStatus().name()
+        );
+    }
 }
@@ -0,0 +1,50 @@
+package ssafy.horong.api.education.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ssafy.horong.domain.education.entity.EducationRecord;
+
+import java.time.LocalDate;
+
+@Schema(description = "학습 기록 목록의 한 항목. 녹음 파일 URL은 재생할 때 따로 조회한다")
+public record EducationRecordSummaryResponse(
+        @Schema(description = "교육 기록의 고유 식별자", example = "1")
+        Long id,
+
+        @Schema(description = "단어 ID", example = "3")
+        Long wordId,
+
+        @Schema(description = "단어", example = "안녕하세요")
+        String word,
+
+        @Schema(description = "학습 날짜", example = "2024-10-01")
+        LocalDate date,
+
+        @Schema(description = "사용자가 말한 텍스트", example = "안녕하세요")
+        String text,
+
+        @Schema(description = "인증 점수 (백분율)", example = "100")
+        float cer,
+
+        @Schema(description = "정답 인덱스 목록", example = "[0, 1, 2, 3, 4]")
+        int[] gtIdx,
+
+        @Schema(description = "예측 인덱스 목록", example = "[0, 1, 2, 3, 4]")
+        int[] hypIdx,
+
+        @Schema(description = "발음 채점 상태 (PENDING, SCORED, FAILED)", example = "SCORED")
+        String status
+) {
+    public static EducationRecordSummaryResponse from(EducationRecord record) {
+        return new EducationRecordSummaryResponse(
+                record.getId(),
+                record.getEducation().getId(),
+                record.getEducation().getWord(),
+                record.getDate(),
+                record.getText(),
+                record.getCer(),
+                record.getGtIdx(),
+                record.getHypIdx(),
+                record.getStatus().name()
+        );
+    }
+}
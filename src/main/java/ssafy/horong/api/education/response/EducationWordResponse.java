@@ -0,0 +1,30 @@
+package ssafy.horong.api.education.response;
+
+import ssafy.horong.domain.education.entity.Education;
+
+// 오늘의 단어 응답에 들어가는 Education 필드. 캐시에 엔티티 대신 넣기 위해 값만 복사한다
+public record EducationWordResponse(
+        Long id,
+        String word,
+        String pronunciation,
+        String definition,
+        String example1,
+        String example2,
+        String audio,
+        boolean slang,
+        int day
+) {
+    public static EducationWordResponse from(Education education) {
+        return new EducationWordResponse(
+                education.getId(),
+                education.getWord(),
+                education.getPronunciation(),
+                education.getDefinition(),
+                education.getExample1(),
+                education.getExample2(),
+                education.getAudio(),
+                education.isSlang(),
+                education.getDay()
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package ssafy.horong.api.education.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ssafy.horong.domain.education.entity.EducationWordStat;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "단어별 학습 요약")
+public record EducationWordStatResponse(
+        @Schema(description = "단어 ID", example = "3")
+        Long wordId,
+
+        @Schema(description = "단어", example = "안녕하세요")
+        String word,
+
+        @Schema(description = "발음", example = "안녕하세요")
+        String pronunciation,
+
+        @Schema(description = "정의", example = "만나거나 헤어질 때 하는 인사말")
+        String definition,
+
+        @Schema(description = "녹음 횟수", example = "5")
+        int attemptCount,
+
+        @Schema(description = "가장 좋은 CER, 채점된 기록이 없으면 null", example = "0.0")
+        Float bestCer,
+
+        @Schema(description = "평균 CER, 채점된 기록이 없으면 null", example = "0.2")
+        Float averageCer,
+
+        @Schema(description = "마지막 녹음 시각")
+        LocalDateTime lastAttemptAt,
+
+        @Schema(description = "마지막 녹음 기록 ID", example = "120")
+        Long lastRecordId
+) {
+    public static EducationWordStatResponse from(EducationWordStat stat) {
+        return new EducationWordStatResponse(
+                stat.getEducation().getId(),
+                stat.getEducation().getWord(),
+                stat.getEducation().getPronunciation(),
+                stat.getEducation().getDefinition(),
+                stat.getAttemptCount(),
+                stat.getBestCer(),
+                stat.getAverageCer(),
+                stat.getLastAttemptAt(),
+                stat.getLastRecordId()
+        );
+    }
+}
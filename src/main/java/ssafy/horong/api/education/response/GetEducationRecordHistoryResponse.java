@@ -0,0 +1,15 @@
+package ssafy.horong.api.education.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "최신순 학습 기록 한 페이지")
+public record GetEducationRecordHistoryResponse(
+        @Schema(description = "학습 기록 목록")
+        List<EducationRecordSummaryResponse> records,
+
+        @Schema(description = "더 오래된 기록이 있는지 여부. 있으면 마지막 기록의 id를 beforeId로 보내 다음 페이지를 조회한다", example = "true")
+        boolean hasMore
+) {
+}
@@ -0,0 +1,19 @@
+package ssafy.horong.api.education.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "스탬프 요약")
+public record StampSummaryResponse(
+        @Schema(description = "전체 스탬프 수", example = "12")
+        int totalCount,
+
+        @Schema(description = "오늘 스탬프를 받았는지 여부", example = "true")
+        boolean stampedToday,
+
+        @Schema(description = "오늘 또는 어제까지 이어진 연속 학습 일수", example = "3")
+        int currentStreak,
+
+        @Schema(description = "최장 연속 학습 일수", example = "7")
+        int longestStreak
+) {
+}
@@ -1,9 +1,7 @@
 package ssafy.horong.api.education.response;
 
-import ssafy.horong.domain.education.entity.Education;
-
 public record TodayEducationDetailResponse(
-        Education education,
+        EducationWordResponse education,
         boolean isCompleted
 ) {
 
@@ -1,40 +1,43 @@
 package ssafy.horong.api.health;
 
-import java.io.BufferedReader;
-
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import ssafy.horong.api.CommonResponse;
 import ssafy.horong.api.education.response.SaveEducationResponseFromData;
+import ssafy.horong.common.data.client.DataServerClient;
 import ssafy.horong.common.exception.data.DataNotFoundException;
 import ssafy.horong.common.exception.errorcode.GlobalErrorCode;
-import ssafy.horong.common.properties.WebClientProperties;
 import ssafy.horong.common.util.S3Util;
 import ssafy.horong.common.util.SecurityUtil;
 import ssafy.horong.config.SecurityConfig;
+import ssafy.horong.domain.education.service.DailyLessonCatalog;
 import ssafy.horong.domain.member.repository.UserRepository;
+import ssafy.horong.domain.moderation.ForbiddenWordImportResult;
+import ssafy.horong.domain.moderation.ForbiddenWordImporter;
 
 import javax.sql.DataSource;
-import java.io.InputStreamReader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.util.*;
 
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.FORBIDDEN_WORDS;
+import static ssafy.horong.common.data.client.DataServerEndpoint.HEALTH_EDUCATION;
+import static ssafy.horong.common.data.client.DataServerEndpoint.HEALTH_WORD;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -45,11 +48,12 @@ public class HealthController {
     private final RedisTemplate<String, ?> redisTemplate;
     private final DataSource dataSource;
     private final S3Util s3Util;
-    private final WebClient webClient;
-    private final WebClientProperties webClientProperties;
+    private final DataServerClient dataServerClient;
     private final RedisTemplate<String, String> redisTemplateslang;
     private final UserRepository userRepository;
     private final SecurityConfig securityConfig;
+    private final ForbiddenWordImporter forbiddenWordImporter;
+    private final DailyLessonCatalog dailyLessonCatalog;
 
     @Operation(summary = "Redis 연결 확인", description = "Redis 서버와의 연결 상태를 확인합니다.")
     @GetMapping("/redis/check")
@@ -113,54 +117,38 @@ public class HealthController {
 
     @Operation(summary = "데이터 서버와 연결 확인", description = "데이터 서버와의 연결 상태를 확인합니다.")
     @GetMapping("/data-server/check")
-    public CommonResponse<String> checkDataServerConnection() {
+    public Mono<CommonResponse<String>> checkDataServerConnection() {
         log.info("[HealthController] 데이터 서버 연결 확인");
 
-        String requestUrl = webClientProperties.url() + "word" + "/";
-
-        String response = webClient.get()
-                .uri(requestUrl)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .defaultIfEmpty("Unknown error")
-                                .flatMap(errorBody -> Mono.error(new DataNotFoundException()))
-                )
-                .bodyToMono(String.class) // 간단한 String 응답으로 변경
-//                .bodyToMono(PlayerMatchAnalyticsResponse.class) // 이렇게 response에 담아도 됨
-                .blockOptional()
-                .orElseThrow(DataNotFoundException::new);
-
-        return CommonResponse.ok("데이터 서버 연결 성공: " + response, null);
+        return dataServerClient.get(HEALTH_WORD, String.class)
+                .map(response -> CommonResponse.ok("데이터 서버 연결 성공: " + response, null));
     }
 
-    private static final String FORBIDDEN_WORDS_KEY = "forbiddenWords";
-
-    @Operation(summary = "금칙어 CSV 파일 업로드", description = "CSV 파일에서 금칙어를 읽어 Redis에 저장합니다.")
+    @Operation(summary = "금칙어 CSV 파일 업로드", description = "배포된 slang.csv로 Redis 금칙어 목록을 교체합니다.")
     @PostMapping("/upload/csv")
-    public ResponseEntity<CommonResponse<String>> uploadForbiddenWordsFromCSV() {
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<CommonResponse<ForbiddenWordImportResult>> uploadForbiddenWordsFromCSV() {
         log.info("[HealthController] 금칙어 CSV 파일 업로드");
+        try {
+            ForbiddenWordImportResult result = forbiddenWordImporter.importWords(new ClassPathResource("slang.csv").getInputStream());
+            return ResponseEntity.ok(CommonResponse.ok("금칙어가 성공적으로 반영되었습니다.", result));
+        } catch (Exception e) {
+            log.error("금칙어 반영 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(CommonResponse.internalServerError(GlobalErrorCode.SERVER_ERROR));
+        }
+    }
 
-        Resource resource = new ClassPathResource("slang.csv");
-
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(resource.getInputStream()))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                String forbiddenWord = line.trim();
-                if (!forbiddenWord.isEmpty()) {
-                    // 이미 존재하는지 확인 후 추가
-                    if (!redisTemplateslang.opsForSet().isMember(FORBIDDEN_WORDS_KEY, forbiddenWord)) {
-                        redisTemplateslang.opsForSet().add(FORBIDDEN_WORDS_KEY, forbiddenWord); // 금칙어 추가
-                        log.info("추가된 금칙어: {}", forbiddenWord);
-                    } else {
-                        log.info("이미 존재하는 금칙어: {}", forbiddenWord);
-                    }
-                }
-            }
-            return ResponseEntity.ok(CommonResponse.ok("금칙어가 성공적으로 추가되었습니다.", null));
+    @Operation(summary = "금칙어 파일 업로드", description = "한 줄에 하나씩 적힌 금칙어 파일로 Redis 금칙어 목록을 교체하고 변경 내역을 반환합니다.")
+    @PostMapping(value = "/upload/forbidden-words", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<CommonResponse<ForbiddenWordImportResult>> uploadForbiddenWords(@RequestPart("file") MultipartFile file) {
+        log.info("[HealthController] 금칙어 파일 업로드: {}", file.getOriginalFilename());
+        try {
+            ForbiddenWordImportResult result = forbiddenWordImporter.importWords(file.getInputStream());
+            return ResponseEntity.ok(CommonResponse.ok("금칙어가 성공적으로 반영되었습니다.", result));
         } catch (Exception e) {
-            log.error("금칙어 추가 중 오류 발생", e);
+            log.error("금칙어 반영 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(CommonResponse.internalServerError(GlobalErrorCode.SERVER_ERROR));
         }
@@ -173,7 +161,7 @@ public class HealthController {
 
         try {
             // Redis에서 금칙어 가져오기
-            Set<String> forbiddenWords = redisTemplateslang.opsForSet().members(FORBIDDEN_WORDS_KEY);
+            Set<String> forbiddenWords = redisTemplateslang.opsForSet().members(FORBIDDEN_WORDS);
 
             if (forbiddenWords != null && !forbiddenWords.isEmpty()) {
                 log.info("Redis에 저장된 금칙어 목록:");
@@ -192,32 +180,26 @@ public class HealthController {
         }
     }
 
+    @Operation(summary = "오늘의 단어 다시 읽기", description = "학습 단어나 번역을 DB에 적재한 뒤 호출하면 모든 서버가 오늘의 단어 묶음을 다시 읽습니다.")
+    @PostMapping("/education/reload")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public CommonResponse<String> reloadDailyLessons() {
+        log.info("[HealthController] 오늘의 단어 다시 읽기");
+        dailyLessonCatalog.markChanged();
+        return CommonResponse.ok("오늘의 단어를 다시 읽었습니다.", null);
+    }
+
     @Operation(summary = "교육 데이파트 연결 테스트", description = "교육 데이터 서버와의 연결 상태를 확인합니다.")
     @GetMapping("/education-server/check")
-    public CommonResponse<SaveEducationResponseFromData> checkEducationServerConnection() {
+    public Mono<CommonResponse<SaveEducationResponseFromData>> checkEducationServerConnection() {
         log.info("[HealthController] 교육 데이터 서버 연결 확인");
 
-        String requestUrl = webClientProperties.url() + "word";
-
-        // WebClient 호출
-        SaveEducationResponseFromData byteResponse = webClient.post()
-                .uri(requestUrl)
-                .body(BodyInserters.fromValue(Map.of(
+        return dataServerClient.post(HEALTH_EDUCATION, Map.of(
                         "word", "테스트",
                         "s3_url", "https://horong-service.s3.ap-northeast-2.amazonaws.com/education/standard/테스트.mp3"
-                )))
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .doOnNext(errorBody -> log.error("Error response body: {}", errorBody)) // 에러 내용 로그 출력
-                                .flatMap(errorBody -> Mono.error(new DataNotFoundException())) // errorBody를 사용해 예외 생성
-                )
-                .bodyToMono(SaveEducationResponseFromData.class)
-                .blockOptional()
-                .orElseThrow(DataNotFoundException::new);
-
-        return CommonResponse.ok(byteResponse);
+                ), SaveEducationResponseFromData.class)
+                .switchIfEmpty(Mono.error(DataNotFoundException::new))
+                .map(CommonResponse::ok);
     }
 
     public class ByteResponseParser {
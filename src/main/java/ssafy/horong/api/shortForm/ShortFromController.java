@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ssafy.horong.api.CommonResponse;
 import ssafy.horong.api.shortForm.request.ModifyIsSavedRequest;
 import ssafy.horong.api.shortForm.request.ModifyPreferenceRequest;
@@ -26,38 +27,39 @@ import java.util.List;
 @Tag(name = "ShortForm", description = "숏폼 관련 API")
 public class ShortFromController {
 
+    // 데이터 서버 응답을 기다리는 동안 Tomcat 스레드를 붙잡지 않도록 Mono로 반환한다
     private final ShortFormService shortFormService;
 
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @Operation(summary = "숏폼 리스트 조회", description = "로그인한 사용자의 숏폼 리스트를 조회합니다.")
     @GetMapping("")
-    public CommonResponse<List<ShortFromResponse>> getShortFormList() {
-        List<ShortFromResponse> response = shortFormService.getShortFormList();
-        return CommonResponse.ok(response);
+    public Mono<CommonResponse<List<ShortFromResponse>>> getShortFormList() {
+        return shortFormService.getShortFormList()
+                .map(CommonResponse::ok);
     }
 
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @Operation(summary = "숏폼 리스트 조회", description = "로그인한 사용자의 숏폼 리스트를 조회합니다.")
     @GetMapping("preferences")
-    public CommonResponse<List<ShortFromResponse>> getPreferenceList() {
-        List<ShortFromResponse> response = shortFormService.getPreferenceList();
-        return CommonResponse.ok(response);
+    public Mono<CommonResponse<List<ShortFromResponse>>> getPreferenceList() {
+        return shortFormService.getPreferenceList()
+                .map(CommonResponse::ok);
     }
 
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @Operation(summary = "숏폼 리스트 조회", description = "로그인한 사용자의 숏폼 리스트를 조회합니다.")
     @GetMapping("liked")
-    public CommonResponse<List<ShortFromResponse>> getLikedList() {
-        List<ShortFromResponse> response = shortFormService.getLikedList();
-        return CommonResponse.ok(response);
+    public Mono<CommonResponse<List<ShortFromResponse>>> getLikedList() {
+        return shortFormService.getLikedList()
+                .map(CommonResponse::ok);
     }
 
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @Operation(summary = "숏폼 detail 조회", description = "숏폼의 상세 정보를 조회합니다.")
     @GetMapping("/{shortFormId}")
-    public CommonResponse<ShortFromListResponse> getShortFormDetail(@PathVariable Long shortFormId) {
-        ShortFromListResponse response = shortFormService.getShortFormDetail(shortFormId);
-        return CommonResponse.ok(response);
+    public Mono<CommonResponse<ShortFromListResponse>> getShortFormDetail(@PathVariable Long shortFormId) {
+        return shortFormService.getShortFormDetail(shortFormId)
+                .map(CommonResponse::ok);
     }
 
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
@@ -71,16 +73,16 @@ public class ShortFromController {
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @Operation(summary = "숏폼 좋아요/싫어요 수정", description = "사용자가 숏폼에 대해 좋아요 또는 싫어요를 수정합니다.")
     @PostMapping("/preference")
-    public CommonResponse<String> modifyPreference(@RequestBody ModifyPreferenceRequest request) {
-        String response = shortFormService.modifyPreference(request.toCommand());
-        return CommonResponse.ok(response);
+    public Mono<CommonResponse<String>> modifyPreference(@RequestBody ModifyPreferenceRequest request) {
+        return shortFormService.modifyPreference(request.toCommand())
+                .map(CommonResponse::ok);
     }
 
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @Operation(summary = "숏폼 스크랩 여부 수정", description = "사용자가 숏폼의 스크랩 여부를 수정합니다.")
     @PostMapping("/is_saved")
-    public CommonResponse<String> modifyIsSaved(@RequestBody ModifyIsSavedRequest request) {
-        String response = shortFormService.modifyIsSaved(request.toCommand());
-        return CommonResponse.ok(response);
+    public Mono<CommonResponse<String>> modifyIsSaved(@RequestBody ModifyIsSavedRequest request) {
+        return shortFormService.modifyIsSaved(request.toCommand())
+                .map(CommonResponse::ok);
     }
 }
\ No newline at end of file
@@ -7,4 +7,16 @@ public final class KEY_PREFIX {
     public static final String ACCESS_TOKEN="access_token:";
     public static final String REFRESH_TOKEN="refresh_token:";
     public static final String BLACKLIST="blacklist:";
+    public static final String NOTIFICATION_CHANNEL="notification_channel:";
+    public static final String BLACKLIST_CHANNEL="blacklist_channel";
+    public static final String FORBIDDEN_WORDS="forbiddenWords";
+    public static final String FORBIDDEN_WORDS_VERSION="forbiddenWords:version";
+    // FORBIDDEN_WORDS와 같은 slot이 되도록 hash tag 사용 (RENAME/SDIFF)
+    public static final String FORBIDDEN_WORDS_STAGING="{forbiddenWords}:staging:";
+    public static final String SHORT_FORM_FEED="shortFormFeed:";
+    public static final String SHORT_FORM_FEED_CHANNEL="shortFormFeed_channel";
+    public static final String EDUCATION_CONTENT_VERSION="educationContent:version";
+    public static final String EDUCATION_WORD_STAT_BACKFILL="educationWordStat:backfill";
+    public static final String CHAT_ROOM_SUMMARY_BACKFILL="chatRoomSummary:backfill";
+    public static final String EDUCATION_RECORD_INDEX_MIGRATION="educationRecord:indexMigration";
 }
@@ -0,0 +1,194 @@
+package ssafy.horong.common.data.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ssafy.horong.common.exception.BaseException;
+import ssafy.horong.common.exception.data.DataNotFoundException;
+import ssafy.horong.common.exception.data.DataServerUnavailableException;
+import ssafy.horong.common.properties.DataServerProperties;
+import ssafy.horong.common.properties.WebClientProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 데이터 서버 호출 공통 클라이언트. 모든 호출은 Mono로 반환하므로 호출하는 스레드를 붙잡지 않는다.
+ * <p>
+ * 엔드포인트마다 타임아웃 → 서킷 브레이커 → 벌크헤드 순서로 감싼다.
+ * 4xx는 {@link DataNotFoundException}, 그 외 실패(5xx, 타임아웃, 연결 실패, 서킷 open, 벌크헤드 초과)는
+ * 모두 {@link DataServerUnavailableException}으로 바꿔서 내보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataServerClient {
+
+    private enum Outcome {
+        SUCCESS, CLIENT_ERROR, SERVER_ERROR, TIMEOUT, REJECTED
+    }
+
+    private final WebClient webClient;
+    private final WebClientProperties webClientProperties;
+    private final DataServerProperties dataServerProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<DataServerEndpoint, CircuitBreaker> circuitBreakers = new EnumMap<>(DataServerEndpoint.class);
+    private final Map<DataServerEndpoint, Bulkhead> bulkheads = new EnumMap<>(DataServerEndpoint.class);
+    private final Map<DataServerEndpoint, Map<Outcome, Timer>> timers = new EnumMap<>(DataServerEndpoint.class);
+
+    @PostConstruct
+    public void init() {
+        CircuitBreakerConfig defaultConfig = circuitBreakerConfig(dataServerProperties.slowCallThreshold());
+        // 발음 채점은 몇 초씩 걸리는 것이 정상이라 일반 요청 기준으로 느림을 판단하면 채점기가 멀쩡해도 서킷이 열린다.
+        // 채점 타임아웃의 80%를 넘길 때만 느린 호출로 본다
+        CircuitBreakerConfig scoringConfig = circuitBreakerConfig(dataServerProperties.scoringTimeout().multipliedBy(4).dividedBy(5));
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(defaultConfig);
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+        for (DataServerEndpoint endpoint : DataServerEndpoint.values()) {
+            String name = "data-server-" + endpoint.tag();
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name,
+                    endpoint.isScoring() ? scoringConfig : defaultConfig);
+            circuitBreaker.getEventPublisher().onStateTransition(event ->
+                    log.warn("데이터 서버 서킷 상태 변경: {} {}", name, event.getStateTransition()));
+            circuitBreakers.put(endpoint, circuitBreaker);
+
+            // 한도를 넘으면 기다리지 않고 바로 거절한다. 대기하면 결국 요청 스레드가 쌓인다
+            bulkheads.put(endpoint, bulkheadRegistry.bulkhead(name, BulkheadConfig.custom()
+                    .maxConcurrentCalls(endpoint.isScoring()
+                            ? dataServerProperties.maxConcurrentScoringCalls()
+                            : dataServerProperties.maxConcurrentCalls())
+                    .maxWaitDuration(Duration.ZERO)
+                    .build()));
+
+            Map<Outcome, Timer> outcomeTimers = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                outcomeTimers.put(outcome, Timer.builder("data.server.requests")
+                        .tag("endpoint", endpoint.tag())
+                        .tag("outcome", outcome.name().toLowerCase())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+            timers.put(endpoint, outcomeTimers);
+        }
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    private CircuitBreakerConfig circuitBreakerConfig(Duration slowCallThreshold) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(50)
+                .minimumNumberOfCalls(20)
+                .failureRateThreshold(dataServerProperties.failureRateThreshold())
+                .slowCallRateThreshold(dataServerProperties.failureRateThreshold())
+                .slowCallDurationThreshold(slowCallThreshold)
+                .waitDurationInOpenState(dataServerProperties.openStateWait())
+                .permittedNumberOfCallsInHalfOpenState(5)
+                // 4xx는 데이터가 없다는 뜻이지 데이터 서버 장애가 아니다
+                .ignoreExceptions(DataNotFoundException.class)
+                .build();
+    }
+
+    public <T> Mono<T> get(DataServerEndpoint endpoint, Class<T> responseType, Object... uriVariables) {
+        return execute(endpoint, webClient.get()
+                .uri(webClientProperties.url() + endpoint.getPath(), uriVariables)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> toException(endpoint, response))
+                .bodyToMono(responseType)
+                .switchIfEmpty(Mono.error(DataNotFoundException::new)));
+    }
+
+    public <T> Mono<List<T>> getList(DataServerEndpoint endpoint, Class<T> elementType, Object... uriVariables) {
+        return execute(endpoint, webClient.get()
+                .uri(webClientProperties.url() + endpoint.getPath(), uriVariables)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> toException(endpoint, response))
+                .bodyToFlux(elementType)
+                .collectList());
+    }
+
+    /**
+     * 응답 본문이 없으면 빈 Mono를 반환한다.
+     */
+    public <T> Mono<T> post(DataServerEndpoint endpoint, Object body, Class<T> responseType) {
+        return execute(endpoint, webClient.post()
+                .uri(webClientProperties.url() + endpoint.getPath())
+                .bodyValue(body)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> toException(endpoint, response))
+                .bodyToMono(responseType));
+    }
+
+    private <T> Mono<T> execute(DataServerEndpoint endpoint, Mono<T> call) {
+        Duration timeout = endpoint.isScoring()
+                ? dataServerProperties.scoringTimeout()
+                : dataServerProperties.responseTimeout();
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return call
+                    .timeout(timeout)
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreakers.get(endpoint)))
+                    .transformDeferred(BulkheadOperator.of(bulkheads.get(endpoint)))
+                    .doOnSuccess(result -> record(endpoint, Outcome.SUCCESS, startedAt))
+                    .doOnError(e -> record(endpoint, outcomeOf(e), startedAt))
+                    .onErrorMap(e -> !(e instanceof BaseException), e -> {
+                        log.warn("데이터 서버 호출 실패: {} {}", endpoint, e.toString());
+                        return new DataServerUnavailableException();
+                    });
+        });
+    }
+
+    private static Mono<? extends Throwable> toException(DataServerEndpoint endpoint, ClientResponse response) {
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("Unknown error")
+                .map(errorBody -> {
+                    log.error("데이터 서버 에러 응답: {} {} {}", endpoint, response.statusCode(), errorBody);
+                    return response.statusCode().is4xxClientError()
+                            ? new DataNotFoundException()
+                            : new DataServerUnavailableException();
+                });
+    }
+
+    private void record(DataServerEndpoint endpoint, Outcome outcome, long startedAt) {
+        timers.get(endpoint).get(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static Outcome outcomeOf(Throwable e) {
+        if (e instanceof DataNotFoundException) {
+            return Outcome.CLIENT_ERROR;
+        }
+        if (e instanceof TimeoutException) {
+            return Outcome.TIMEOUT;
+        }
+        if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+            return Outcome.REJECTED;
+        }
+        return Outcome.SERVER_ERROR;
+    }
+}
@@ -0,0 +1,30 @@
+package ssafy.horong.common.data.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 데이터 서버 엔드포인트. 엔드포인트마다 타임아웃, 벌크헤드, 서킷 브레이커, 메트릭 태그가 따로 잡힌다.
+ * 발음 채점처럼 오래 걸리는 호출은 scoring으로 표시해 긴 타임아웃과 별도 동시 호출 한도를 쓴다.
+ */
+@Getter
+@AllArgsConstructor
+public enum DataServerEndpoint {
+    SHORT_FORM_LIST("/shortform/{userId}", false),
+    SHORT_FORM_PREFERENCES("/shortform/preference/{userId}", false),
+    SHORT_FORM_LIKED("/shortform/is_saved/{userId}", false),
+    SHORT_FORM_DETAIL("/shortform/{userId}/{shortFormId}", false),
+    SHORT_FORM_LOG("/shortform/log", false),
+    SHORT_FORM_PREFERENCE("/shortform/preference", false),
+    SHORT_FORM_SAVED("/shortform/is_saved", false),
+    EDUCATION_SCORE("/education", true),
+    HEALTH_WORD("word/", false),
+    HEALTH_EDUCATION("word", true);
+
+    private final String path;
+    private final boolean scoring;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,10 @@
+package ssafy.horong.common.exception.Board;
+
+import ssafy.horong.common.exception.BaseException;
+import ssafy.horong.common.exception.errorcode.CommunityErrorCode;
+
+public class ForbiddenContentException extends BaseException {
+    public ForbiddenContentException() {
+        super(CommunityErrorCode.FORBIDDEN_WORD_CONTAINED);
+    }
+}
@@ -0,0 +1,10 @@
+package ssafy.horong.common.exception.Board;
+
+import ssafy.horong.common.exception.BaseException;
+import ssafy.horong.common.exception.errorcode.CommunityErrorCode;
+
+public class ReindexInProgressException extends BaseException {
+    public ReindexInProgressException() {
+        super(CommunityErrorCode.REINDEX_IN_PROGRESS);
+    }
+}
@@ -0,0 +1,10 @@
+package ssafy.horong.common.exception.data;
+
+import ssafy.horong.common.exception.BaseException;
+import ssafy.horong.common.exception.errorcode.DataErrorCode;
+
+public class DataServerUnavailableException extends BaseException {
+    public DataServerUnavailableException() {
+        super(DataErrorCode.DATA_SERVER_UNAVAILABLE);
+    }
+}
@@ -10,13 +10,16 @@ public enum CommunityErrorCode implements BaseErrorCode {
     NOT_AUTHENTICATED(401, "BOARD_401_1", "삭제/수정 권한이 없습니다."),
     CONTENT_TOO_LONG(400, "BOARD_400_2", "게시글은 255자 이하로 작성해야합니다."),
     COMMENT_TOO_LONG(400, "BOARD_400_3", "댓글은 50자 이하로 작성해야합니다."),
+    FORBIDDEN_WORD_CONTAINED(400, "BOARD_400_4", "금칙어가 포함되어 있습니다."),
 
     POST_NOT_FOUND(404, "BOARD_404_1", "게시글을 찾을 수 없습니다."),
     POST_DELETED(404, "BOARD_404_2", "삭제된 게시글입니다."),
     COMMENT_NOT_FOUND(404, "BOARD_404_3", "댓글을 찾을 수 없습니다."),
     CHATROOM_NOT_FOUND(404, "BOARD_404_4", "채팅방을 찾을 수 없습니다."),
 
-    NOT_ADMIN(403, "BOARD_403_1", "관리자만 접근 가능합니다.");
+    NOT_ADMIN(403, "BOARD_403_1", "관리자만 접근 가능합니다."),
+
+    REINDEX_IN_PROGRESS(409, "BOARD_409_1", "게시글 검색 인덱스 재색인이 이미 진행 중입니다.");
 
 
 
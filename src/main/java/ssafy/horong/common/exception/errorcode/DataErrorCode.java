@@ -4,11 +4,13 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import static ssafy.horong.api.StatusCode.NOT_FOUND;
+import static ssafy.horong.api.StatusCode.SERVICE_UNAVAILABLE;
 
 @Getter
 @AllArgsConstructor
 public enum DataErrorCode implements BaseErrorCode { // BaseErrorCode를 상속
-    DATA_NOT_FOUND(NOT_FOUND, "DATA_404_1", "데이터를 찾을 수 없습니다.");
+    DATA_NOT_FOUND(NOT_FOUND, "DATA_404_1", "데이터를 찾을 수 없습니다."),
+    DATA_SERVER_UNAVAILABLE(SERVICE_UNAVAILABLE, "DATA_503_1", "데이터 서버가 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
 
     private final Integer httpStatus; // HTTP 상태 코드
     private final String code;          // 에러 코드
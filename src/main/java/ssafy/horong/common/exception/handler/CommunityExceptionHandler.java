@@ -33,6 +33,13 @@ public class CommunityExceptionHandler {
         return CommonResponse.badRequest(e.getErrorCode());
     }
 
+    @ExceptionHandler(ForbiddenContentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public CommonResponse handleForbiddenContentException(ForbiddenContentException e) {
+        log.error("ForbiddenContentException", e);
+        return CommonResponse.badRequest(e.getErrorCode());
+    }
+
     @ExceptionHandler(PostNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public CommonResponse handlePostNotFoundException(PostNotFoundException e) {
@@ -60,4 +67,11 @@ public class CommunityExceptionHandler {
         log.error("ChatRoomNotFoundException", e);
         return CommonResponse.notFound(e.getErrorCode());
     }
+
+    @ExceptionHandler(ReindexInProgressException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public CommonResponse handleReindexInProgressException(ReindexInProgressException e) {
+        log.error("ReindexInProgressException", e);
+        return CommonResponse.conflict(e.getErrorCode());
+    }
 }
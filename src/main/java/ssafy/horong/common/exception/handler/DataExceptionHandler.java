@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ssafy.horong.api.CommonResponse;
 import ssafy.horong.common.exception.data.DataNotFoundException;
+import ssafy.horong.common.exception.data.DataServerUnavailableException;
 
 @Slf4j
 @RestControllerAdvice
@@ -17,4 +18,11 @@ public class DataExceptionHandler {
         log.error("PDataNotFoundException Error", e);
         return CommonResponse.notFound(e.getErrorCode());
     }
+
+    @ExceptionHandler(DataServerUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public CommonResponse handleDataServerUnavailableException(DataServerUnavailableException e) {
+        log.error("DataServerUnavailableException Error", e);
+        return CommonResponse.internalServerError(e.getErrorCode());
+    }
 }
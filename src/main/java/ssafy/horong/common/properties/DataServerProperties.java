@@ -0,0 +1,22 @@
+package ssafy.horong.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "data-server")
+public record DataServerProperties(
+        int maxConnections,
+        int pendingAcquireMaxCount,
+        Duration pendingAcquireTimeout,
+        Duration maxIdleTime,
+        Duration connectTimeout,
+        Duration responseTimeout,
+        Duration scoringTimeout,
+        int maxConcurrentCalls,
+        int maxConcurrentScoringCalls,
+        float failureRateThreshold,
+        Duration slowCallThreshold,
+        Duration openStateWait
+) {
+}
@@ -0,0 +1,14 @@
+package ssafy.horong.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "education-scoring")
+public record EducationScoringProperties(
+        int workers,
+        int queueCapacity,
+        Duration maxQueueWait,
+        Duration pendingTimeout
+) {
+}
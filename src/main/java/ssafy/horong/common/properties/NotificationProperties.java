@@ -0,0 +1,13 @@
+package ssafy.horong.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * shardCount는 노드당 동시 SSE 사용자 수보다 충분히 커야 노드마다 구독하는 shard가 일부에 그친다.
+ * 발행 노드와 구독 노드가 같은 값을 써야 하므로 모든 노드를 함께 바꿔야 한다.
+ */
+@ConfigurationProperties(prefix = "notification")
+public record NotificationProperties(
+        int shardCount
+) {
+}
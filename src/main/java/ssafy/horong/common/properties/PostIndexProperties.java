@@ -0,0 +1,13 @@
+package ssafy.horong.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "post-index")
+public record PostIndexProperties(
+        int shards,
+        int replicas,
+        int bulkSize,
+        int parallelism,
+        int maxDocsPerSecond
+) {
+}
@@ -0,0 +1,13 @@
+package ssafy.horong.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "short-form-feed")
+public record ShortFormFeedProperties(
+        Duration freshFor,
+        Duration staleFor,
+        long nearMaximumSize
+) {
+}
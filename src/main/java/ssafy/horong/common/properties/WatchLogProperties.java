@@ -0,0 +1,16 @@
+package ssafy.horong.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "watch-log")
+public record WatchLogProperties(
+        int queueCapacity,
+        int batchSize,
+        Duration flushInterval,
+        Duration flushTimeout,
+        int flushConcurrency,
+        int maxRetries
+) {
+}
@@ -1,8 +1,14 @@
 package ssafy.horong.common.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -15,12 +21,13 @@ import ssafy.horong.domain.auth.model.DecodedJwtToken;
 import ssafy.horong.domain.auth.model.LoginToken;
 import ssafy.horong.domain.member.common.MemberRole;
 import ssafy.horong.domain.member.entity.User;
-import ssafy.horong.domain.redis.BlacklistTokenRedisRepository;
 import ssafy.horong.domain.redis.RefreshTokenRedisRepository;
+import ssafy.horong.domain.redis.TokenBlacklist;
 
 import javax.crypto.SecretKey;
 import java.security.Key;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import static ssafy.horong.common.constant.redis.KEY_PREFIX.ACCESS_TOKEN;
 import static ssafy.horong.common.constant.redis.KEY_PREFIX.REFRESH_TOKEN;
@@ -30,24 +37,72 @@ import static ssafy.horong.common.constant.redis.KEY_PREFIX.REFRESH_TOKEN;
 @Slf4j
 public class JwtProcessor {
 
+    private static final long VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
     private final JwtProperties jwtProperties;
-    private final BlacklistTokenRedisRepository blacklistTokenRedisRepository;
+    private final TokenBlacklist tokenBlacklist;
     private final RefreshTokenRedisRepository refreshTokenRedisRepository;
+    private final MeterRegistry meterRegistry;
+
+    private SecretKey secretKey;
+    private io.jsonwebtoken.JwtParser tokenParser;
+    // 검증을 마친 토큰의 claims. 토큰 만료 시각에 함께 만료된다
+    private Cache<String, Claims> verifiedClaims;
+
+    @PostConstruct
+    public void init() {
+        secretKey = Keys.hmacShaKeyFor(jwtProperties.secretKey().getBytes());
+        tokenParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String token, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "verifiedJwt");
+    }
 
     public Key getSecretKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.secretKey().getBytes());
+        return secretKey;
     }
 
-    public Jws<Claims> getClaim(String token) {
-        log.debug("token : {}", token);
-        if (isTokenExpired(token)) {
+    /**
+     * 토큰을 한 번만 파싱/검증하고, 이후 같은 토큰은 만료 전까지 캐시된 claims를 사용한다.
+     * 블랙리스트 확인은 로컬 사본에서 한다.
+     */
+    public Claims getClaims(String token) {
+        if (tokenBlacklist.contains(token)) {
             throw new TokenExpiredException();
         }
+        Claims claims = verifiedClaims.get(token, this::parse);
+        if (claims.getExpiration().before(new Date())) {
+            verifiedClaims.invalidate(token);
+            throw new TokenExpiredException();
+        }
+        return claims;
+    }
+
+    private Claims parse(String token) {
+        log.debug("token : {}", token);
         try {
-            return Jwts.parser()
-                    .verifyWith((SecretKey) getSecretKey())
-                    .build()
-                    .parseSignedClaims(token);
+            return tokenParser.parseSignedClaims(token).getPayload();
         } catch (SignatureException e) {
             throw new InvalidSignatureTokenException();
         } catch (ExpiredJwtException e) {
@@ -81,26 +136,19 @@ public class JwtProcessor {
             log.info("리프레시 토큰을 찾지 못해 토큰 만료 처리 건너뜀: {}", accessToken);
             return;
         }
-        blacklistTokenRedisRepository.save(refreshToken, getRemainingTime(refreshToken));
+        tokenBlacklist.add(refreshToken, getRemainingTime(refreshToken));
+        verifiedClaims.invalidate(refreshToken);
         refreshTokenRedisRepository.delete(refreshToken);
         log.info("Token added to blacklist: {}", refreshToken);
     }
 
     public long getRemainingTime(String token) {
-        Claims claims = getClaim(token).getPayload();
+        Claims claims = getClaims(token);
         Date expiration = claims.getExpiration();
         Date now = new Date();
         return Math.max(0, expiration.getTime() - now.getTime());
     }
 
-    public boolean isTokenExpired(String token) {
-        Boolean result = blacklistTokenRedisRepository.hasKey(token);
-        if (result != null) {
-            return result;
-        }
-        return getClaim(token).getPayload().getExpiration().before(new Date());
-    }
-
     public String generateAccessToken(User user) {
         log.debug("access token exp : {}", jwtProperties.accessTokenExp());
         return issueToken(user.getId(), user.getRole(), ACCESS_TOKEN, jwtProperties.accessTokenExp());
@@ -111,7 +159,7 @@ public class JwtProcessor {
     }
 
     public DecodedJwtToken decodeToken(String token, String type) {
-        Claims claims = getClaim(token).getPayload();
+        Claims claims = getClaims(token);
         checkType(claims, type);
 
         return new DecodedJwtToken(
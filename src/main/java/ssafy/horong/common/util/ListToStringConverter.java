@@ -1,6 +1,7 @@
 package ssafy.horong.common.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
@@ -8,10 +9,13 @@ import jakarta.persistence.Converter;
 import java.io.IOException;
 import java.util.List;
 
+// JSON 문자열로 저장하던 이전 형식. 새 기록은 PackedIntArrayConverter로 저장하고, 이전 기록을 읽을 때만 쓴다
 @Converter
 public class ListToStringConverter implements AttributeConverter<List<Integer>, String> {
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeReference<List<Integer>> INTEGER_LIST = new TypeReference<>() {
+    };
 
     @Override
     public String convertToDatabaseColumn(List<Integer> attribute) {
@@ -24,10 +28,13 @@ public class ListToStringConverter implements AttributeConverter<List<Integer>,
 
     @Override
     public List<Integer> convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
         try {
-            return objectMapper.readValue(dbData, List.class);
+            return objectMapper.readValue(dbData, INTEGER_LIST);
         } catch (IOException e) {
             throw new RuntimeException("Error converting JSON string to list", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,43 +1,148 @@
 package ssafy.horong.common.util;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ssafy.horong.api.community.response.NotificationResponse;
-import ssafy.horong.domain.community.entity.Notification;
-import ssafy.horong.domain.community.repository.NotificationRepository;
-import ssafy.horong.domain.member.entity.User;
+import ssafy.horong.common.properties.NotificationProperties;
+import ssafy.horong.domain.community.model.NotificationDelivery;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationUtil {
 
-    private final NotificationRepository notificationRepository;
+    private static final long HEARTBEAT_INTERVAL_SECONDS = 60L;
+
+    private static final TypeReference<List<NotificationDelivery>> DELIVERY_BATCH_TYPE = new TypeReference<>() {
+    };
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final NotificationProperties notificationProperties;
+
     private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    // 이 노드에 연결된 사용자가 있는 shard 채널만 구독 (shard별 연결 사용자 수, emitterLock으로 보호)
+    private final Map<Integer, Integer> shardUserCounts = new ConcurrentHashMap<>();
+    private final Object emitterLock = new Object();
+    private final MessageListener shardListener = this::onShardMessage;
+
+    // 모든 SSE 연결의 keepAlive를 하나의 스레드가 주기적으로 전송
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger lastHeartbeatFailures = new AtomicInteger();
+
+    private Timer deliveryLagTimer;
+    private Counter heartbeatFailureCounter;
+
+    @PostConstruct
+    public void init() {
+        registerMetrics();
+        heartbeatScheduler.scheduleWithFixedDelay(this::sendHeartbeats, HEARTBEAT_INTERVAL_SECONDS, HEARTBEAT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
 
-    public void sendMergedNotifications(User user) {
-        List<Notification> unreadCommentNotifications = notificationRepository
-                .findByReceiverAndIsReadFalseAndType(user, Notification.NotificationType.COMMENT);
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+    }
 
-        List<Notification> unreadMessageNotifications = notificationRepository
-                .findByReceiverAndIsReadFalseAndType(user, Notification.NotificationType.MESSAGE);
+    private void registerMetrics() {
+        Gauge.builder("notification.sse.emitters", emitters, map -> map.values().stream().mapToInt(List::size).sum())
+                .description("이 노드에 연결된 SSE emitter 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.users", emitters, Map::size)
+                .description("이 노드에 SSE로 연결된 사용자 수")
+                .register(meterRegistry);
+        deliveryLagTimer = Timer.builder("notification.delivery.lag")
+                .description("알림 발행부터 이 노드 수신까지의 지연")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.heartbeat.failures", lastHeartbeatFailures, AtomicInteger::get)
+                .description("직전 keepAlive 순회에서 전송에 실패해 정리된 emitter 수")
+                .register(meterRegistry);
+        heartbeatFailureCounter = meterRegistry.counter("notification.sse.heartbeat.failures.total");
+        // 전체 shard 수에 가까우면 shard가 모자라 다른 노드 사용자의 알림까지 받고 있다는 뜻
+        Gauge.builder("notification.sse.shards", shardUserCounts, Map::size)
+                .description("이 노드가 구독 중인 알림 shard 채널 수")
+                .register(meterRegistry);
+    }
 
-        List<Notification> combinedNotifications = new ArrayList<>();
-        combinedNotifications.addAll(unreadCommentNotifications);
-        combinedNotifications.addAll(unreadMessageNotifications);
+    // 연결된 모든 emitter에 keepAlive를 보내고, 실패한 연결은 정리
+    private void sendHeartbeats() {
+        int failures = 0;
+        try {
+            for (Map.Entry<Long, List<SseEmitter>> entry : emitters.entrySet()) {
+                for (SseEmitter emitter : entry.getValue()) {
+                    if (!sendKeepAlive(entry.getKey(), emitter)) {
+                        failures++;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // 예외가 전파되면 이후 스케줄이 모두 취소되므로 여기서 막는다
+            log.error("SSE keepAlive 전송 중 오류 발생", e);
+        }
+        lastHeartbeatFailures.set(failures);
+        heartbeatFailureCounter.increment(failures);
+    }
 
-        combinedNotifications.sort(Comparator.comparing(Notification::getCreatedAt));
+    private boolean sendKeepAlive(Long userId, SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("keepAlive")
+                    .data("keep connection alive"));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            removeEmitter(userId, emitter);
+            return false;
+        }
+    }
 
-        // Convert to DTOs
-        List<NotificationResponse> notificationResponse = NotificationResponse.convertToNotificationDTOs(combinedNotifications, user.getLanguage());
+    // 다른 노드(또는 자기 자신)가 발행한 알림 중 이 노드가 가진 emitter의 사용자 것만 전달
+    private void onShardMessage(Message message, byte[] pattern) {
+        List<NotificationDelivery> deliveries;
+        try {
+            deliveries = objectMapper.readValue(message.getBody(), DELIVERY_BATCH_TYPE);
+        } catch (IOException e) {
+            log.error("알림 메시지 역직렬화 실패", e);
+            return;
+        }
 
-        // Send DTOs instead of entities
-        sendNotificationToUser(notificationResponse, user.getId());
+        long now = System.currentTimeMillis();
+        for (NotificationDelivery delivery : deliveries) {
+            deliveryLagTimer.record(Duration.ofMillis(Math.max(0, now - delivery.publishedAt())));
+            if (hasEmitter(delivery.receiverId())) {
+                sendNotificationToUser(List.of(delivery.notification()), delivery.receiverId());
+            }
+        }
     }
 
     public void sendNotificationToUser(List<NotificationResponse> notifications, Long userId) {
@@ -48,25 +153,34 @@ public class NotificationUtil {
         List<SseEmitter> userEmitters = emitters.get(userId);
         if (userEmitters != null) {
             for (SseEmitter emitter : userEmitters) {
-                for (NotificationResponse notification : notifications) {
-                    try {
-                        emitter.send(SseEmitter.event()
-                                .name("notification")
-                                .data(notification));
-                    } catch (IOException e) {
-                        removeEmitter(userId, emitter);
-                    }
-                }
+                sendNotificationToEmitter(notifications, userId, emitter);
             }
         }
     }
 
+    // 재연결 시 읽지 않은 알림을 새로 연결된 emitter에만 다시 전송
+    public void sendNotificationToEmitter(List<NotificationResponse> notifications, Long userId, SseEmitter emitter) {
+        for (NotificationResponse notification : notifications) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("notification")
+                        .data(notification));
+            } catch (IOException e) {
+                removeEmitter(userId, emitter);
+                return;
+            }
+        }
+    }
+
+    public boolean hasEmitter(Long userId) {
+        return emitters.containsKey(userId);
+    }
+
     public SseEmitter createSseEmitter() {
         Long userId = SecurityUtil.getLoginMemberId().orElseThrow();
         SseEmitter emitter = new SseEmitter(600000L); // 10분 타임아웃
 
-        // 해당 userId의 리스트를 초기화하고 emitter 추가
-        emitters.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(emitter);
+        addEmitter(userId, emitter);
 
         emitter.onCompletion(() -> removeEmitter(userId, emitter));
         emitter.onTimeout(() -> removeEmitter(userId, emitter));
@@ -81,50 +195,36 @@ public class NotificationUtil {
             throw new RuntimeException(e);
         }
 
-        // 일정 시간마다 더미 이벤트 전송
-        Timer timer = new Timer(true);
-        timer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                try {
-                    emitter.send(SseEmitter.event()
-                            .name("keepAlive")
-                            .data("keep connection alive"));
-                } catch (IOException e) {
-                    removeEmitter(userId, emitter);
-                    timer.cancel(); // 연결이 끊어지면 타이머 중단
-                }
-            }
-        }, 0, 60000); // 5초 간격으로 더미 이벤트 전송
-
         return emitter;
     }
 
-    public void removeEmitter(Long userId, SseEmitter emitter) {
-        List<SseEmitter> userEmitters = emitters.get(userId);
-        if (userEmitters != null) {
-            userEmitters.remove(emitter);
-            if (userEmitters.isEmpty()) {
-                emitters.remove(userId);
+    private void addEmitter(Long userId, SseEmitter emitter) {
+        synchronized (emitterLock) {
+            List<SseEmitter> userEmitters = emitters.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>());
+            boolean firstForUser = userEmitters.isEmpty();
+            userEmitters.add(emitter);
+
+            int shard = NotificationDelivery.shardOf(userId, notificationProperties.shardCount());
+            if (firstForUser && shardUserCounts.merge(shard, 1, Integer::sum) == 1) {
+                redisMessageListenerContainer.addMessageListener(shardListener, new ChannelTopic(NotificationDelivery.channelOf(shard)));
             }
         }
     }
 
-    private void startKeepAlive(SseEmitter emitter, Long userId) {
-        Timer timer = new Timer(true);
-        timer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                try {
-                    emitter.send(SseEmitter.event()
-                            .name("keepAlive")
-                            .data("keep connection alive"));
-                } catch (IOException e) {
-                    removeEmitter(userId, emitter);
-                    timer.cancel();
-                }
+    public void removeEmitter(Long userId, SseEmitter emitter) {
+        synchronized (emitterLock) {
+            List<SseEmitter> userEmitters = emitters.get(userId);
+            if (userEmitters == null || !userEmitters.remove(emitter) || !userEmitters.isEmpty()) {
+                return;
             }
-        }, 0, 60000); // 1분 간격으로 더미 이벤트 전송
+            emitters.remove(userId);
+
+            int shard = NotificationDelivery.shardOf(userId, notificationProperties.shardCount());
+            if (shardUserCounts.merge(shard, -1, Integer::sum) == 0) {
+                shardUserCounts.remove(shard);
+                redisMessageListenerContainer.removeMessageListener(shardListener, new ChannelTopic(NotificationDelivery.channelOf(shard)));
+            }
+        }
     }
 
     public Map<Long, List<SseEmitter>> getEmitters() {
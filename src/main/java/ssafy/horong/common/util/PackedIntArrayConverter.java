@@ -0,0 +1,86 @@
+package ssafy.horong.common.util;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+
+/**
+ * int[]를 varint 바이트로 저장하는 컨버터. 발음 채점의 gtIdx/hypIdx처럼 대부분 오름차순인 작은 정수 배열용이다.
+ * <p>
+ * 형식: [개수] 다음에 [첫 값][이전 값과의 차이]... 를 zigzag varint로 쓴다.
+ * 차이는 보통 0~127이므로 원소 하나가 1바이트가 되고, 박싱 없이 int[]로 바로 읽는다.
+ */
+@Converter
+public class PackedIntArrayConverter implements AttributeConverter<int[], byte[]> {
+
+    private static final int MAX_VARINT_BYTES = 5;
+
+    @Override
+    public byte[] convertToDatabaseColumn(int[] attribute) {
+        return attribute == null ? null : encode(attribute);
+    }
+
+    @Override
+    public int[] convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : decode(dbData);
+    }
+
+    public static byte[] encode(int[] values) {
+        byte[] buffer = new byte[(values.length + 1) * MAX_VARINT_BYTES];
+        int position = writeVarint(buffer, 0, values.length);
+        int previous = 0;
+        for (int value : values) {
+            position = writeVarint(buffer, position, zigzag(value - previous));
+            previous = value;
+        }
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public static int[] decode(byte[] bytes) {
+        int[] cursor = {0};
+        int length = readVarint(bytes, cursor);
+        if (length < 0) {
+            throw new IllegalArgumentException("잘못된 배열 길이: " + length);
+        }
+        int[] values = new int[length];
+        int previous = 0;
+        for (int i = 0; i < length; i++) {
+            previous += unzigzag(readVarint(bytes, cursor));
+            values[i] = previous;
+        }
+        return values;
+    }
+
+    private static int writeVarint(byte[] buffer, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static int readVarint(byte[] bytes, int[] cursor) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (cursor[0] >= bytes.length) {
+                throw new IllegalArgumentException("varint가 중간에 끝남");
+            }
+            byte b = bytes[cursor[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("varint가 너무 김");
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -2,6 +2,11 @@ package ssafy.horong.common.util;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -19,6 +24,7 @@ import ssafy.horong.common.properties.S3Properties;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -32,9 +38,27 @@ public class S3Util {
 
     private static final Set<String> ALLOWED_EXTENSIONS = Set.of(".jpg", ".jpeg", ".png", ".gif", ".PNG", ".JPG", ".JPEG", ".GIF", ".mp3", ".MP3", ".wav", ".WAV");
 
+    private static final Duration SIGNATURE_DURATION = Duration.ofMinutes(10);
+    // 만료 직전의 URL을 내려주지 않도록 서명 유효 기간보다 조금 일찍 재서명
+    private static final Duration PRESIGNED_URL_REUSE_DURATION = SIGNATURE_DURATION.minusMinutes(2);
+    private static final long PRESIGNED_URL_CACHE_SIZE = 10_000L;
+
     private final AmazonS3 amazonS3Client;
     private final S3Properties s3Properties;
     private final S3Presigner s3Presigner;
+    private final MeterRegistry meterRegistry;
+
+    private Cache<String, URL> presignedUrlCache;
+
+    @PostConstruct
+    public void initPresignedUrlCache() {
+        presignedUrlCache = Caffeine.newBuilder()
+                .maximumSize(PRESIGNED_URL_CACHE_SIZE)
+                .expireAfterWrite(PRESIGNED_URL_REUSE_DURATION)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, presignedUrlCache, "s3PresignedUrl");
+    }
 
     private static void validateFileExtension(String extension) {
         log.info("확장자: {}", extension);
@@ -115,79 +139,37 @@ public class S3Util {
     }
 
     public String getPresignedUrlFromS3(String imagePath) {
-        try {
-            String objectKey = extractObjectKey(imagePath);
-
-            GetObjectRequest getObjectRequest = createGetObjectRequest(objectKey);
-            GetObjectPresignRequest getObjectPresignRequest = createGetObjectPresignRequest(getObjectRequest);
-
-            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(getObjectPresignRequest);
-            URL presignedUrl = presignedRequest.url();
-
-            log.info("{} 이미지에 대한 presigned URL 생성 성공", objectKey);
-            return presignedUrl.toString();
-        } catch (Exception e) {
-            log.error("Presigned URL 생성 중 오류 발생: {}", e.getMessage());
-            throw new PresignedUrlGenerationFailException();
-        }
+        return getPresignedUrl(extractObjectKey(imagePath)).toString();
     }
 
     public String getProfilePresignedUrlFromS3(String number) {
-        try {
-            String imagePath = "profileImg/" + number + ".png";
-            String objectKey = extractObjectKey(imagePath);
-
-            GetObjectRequest getObjectRequest = createGetObjectRequest(objectKey);
-            GetObjectPresignRequest getObjectPresignRequest = createGetObjectPresignRequest(getObjectRequest);
-
-            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(getObjectPresignRequest);
-            URL presignedUrl = presignedRequest.url();
+        String imagePath = "profileImg/" + number + ".png";
+        return getPresignedUrl(extractObjectKey(imagePath)).toString();
+    }
 
-            log.info("{} 이미지에 대한 presigned URL 생성 성공", objectKey);
-            return presignedUrl.toString();
-        } catch (Exception e) {
-            log.error("Presigned URL 생성 중 오류 발생: {}", e.getMessage());
+    public URI getS3UrlFromS3(String imagePath) {
+        try {
+            return getPresignedUrl(extractObjectKey(imagePath)).toURI();
+        } catch (URISyntaxException e) {
+            log.error("Presigned URL 변환 중 오류 발생: {}", e.getMessage());
             throw new PresignedUrlGenerationFailException();
         }
     }
 
-//    public URI getS3UrlFromS3(String objectKey) {
-//        // S3 버킷의 기본 URL을 앞에 붙여서 URI 객체로 반환합니다.
-//        String baseUrl = "https://horong-service.s3.ap-northeast-2.amazonaws.com/";
-//        String fullUrl = baseUrl + objectKey;
-//
-//        log.info("생성된 S3 URI: {}", fullUrl);
-//
-//        // String을 URI로 변환하여 반환
-//        return URI.create(fullUrl);
-//    }
+    // 같은 객체 키는 서명 만료 직전까지 캐시된 presigned URL을 재사용
+    private URL getPresignedUrl(String objectKey) {
+        return presignedUrlCache.get(objectKey, this::presign);
+    }
 
-    public URI getS3UrlFromS3(String imagePath) {
+    private URL presign(String objectKey) {
         try {
-            // imagePath에서 S3 객체 키 추출
-            String objectKey = extractObjectKey(imagePath);
-            log.info("Presigned URL을 생성할 객체 키: {}", objectKey);
-
-            // GetObjectRequest 생성
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(s3Properties.s3().bucket())
-                    .key(objectKey)
-                    .build();
-
-            // Presigned URL 요청 생성 (유효 기간 10분 설정)
-            GetObjectPresignRequest getObjectPresignRequest = GetObjectPresignRequest.builder()
-                    .getObjectRequest(getObjectRequest)
-                    .signatureDuration(Duration.ofMinutes(10))  // Presigned URL의 유효 기간 설정
-                    .build();
-
-            // Presigned URL 생성
-            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(getObjectPresignRequest);
-            URL presignedUrl = presignedRequest.url();
+            GetObjectRequest getObjectRequest = createGetObjectRequest(objectKey);
+            GetObjectPresignRequest getObjectPresignRequest = createGetObjectPresignRequest(getObjectRequest);
 
-            log.info("생성된 Presigned URL: {}", presignedUrl.toString());
+            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(getObjectPresignRequest);
 
-            // URL을 URI로 변환하여 반환
-            return presignedUrl.toURI();
+            log.debug("{} 객체에 대한 presigned URL 생성 성공", objectKey);
+            return presignedRequest.url();
         } catch (Exception e) {
             log.error("Presigned URL 생성 중 오류 발생: {}", e.getMessage());
             throw new PresignedUrlGenerationFailException();
@@ -213,7 +195,7 @@ public class S3Util {
     private GetObjectPresignRequest createGetObjectPresignRequest(GetObjectRequest getObjectRequest) {
         return GetObjectPresignRequest.builder()
                 .getObjectRequest(getObjectRequest)
-                .signatureDuration(Duration.ofMinutes(10))
+                .signatureDuration(SIGNATURE_DURATION)
                 .build();
     }
 }
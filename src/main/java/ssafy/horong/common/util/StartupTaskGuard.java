@@ -0,0 +1,49 @@
+package ssafy.horong.common.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 기동 시 한 번만 돌리면 되는 백필/이관 작업을 Redis 키로 한 노드에서 한 번만 실행한다.
+ * 끝나면 키를 남겨 다음 기동부터 건너뛰고, 실패하면 키를 지워 다음 기동 때 다시 시도한다.
+ * 작업의 예외는 잡아서 로그만 남기므로 ApplicationReadyEvent 리스너에서 불러도 기동이 멈추지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupTaskGuard {
+
+    private static final String RUNNING = "running";
+    private static final String DONE = "done";
+    // 작업하던 노드가 죽어도 이 시간이 지나면 다른 노드가 다시 시도한다
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void runOnce(String key, String taskName, Runnable task) {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, RUNNING, LOCK_TTL))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("{} 잠금 실패", taskName, e);
+            return;
+        }
+
+        try {
+            task.run();
+            redisTemplate.opsForValue().set(key, DONE);
+        } catch (Exception e) {
+            log.error("{} 실패", taskName, e);
+            try {
+                redisTemplate.delete(key);
+            } catch (Exception deleteFailure) {
+                log.warn("{} 잠금 해제 실패: {}", taskName, deleteFailure.getMessage());
+            }
+        }
+    }
+}
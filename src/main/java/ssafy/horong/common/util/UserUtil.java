@@ -1,18 +1,111 @@
 package ssafy.horong.common.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import ssafy.horong.common.exception.User.MemberNotFoundException;
+import ssafy.horong.common.exception.security.NotAuthenticatedException;
 import ssafy.horong.domain.member.entity.User;
 import ssafy.horong.domain.member.repository.UserRepository;
 
+import java.time.Duration;
+
 @RequiredArgsConstructor
 @Component
 public class UserUtil {
+
+    private static final String CURRENT_USER_ATTRIBUTE = UserUtil.class.getName() + ".CURRENT_USER";
+    private static final Duration USER_CACHE_TTL = Duration.ofSeconds(30);
+    private static final long USER_CACHE_SIZE = 10_000L;
+
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    private Cache<Long, User> userCache;
+
+    @PostConstruct
+    public void initUserCache() {
+        userCache = Caffeine.newBuilder()
+                .maximumSize(USER_CACHE_SIZE)
+                .expireAfterWrite(USER_CACHE_TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, "currentUser");
+    }
+
+    /**
+     * 로그인한 사용자를 조회한다. 요청 안에서는 한 번만, 요청 간에는 짧은 TTL 로컬 캐시로 조회한다.
+     * 반환된 User는 현재 트랜잭션 밖에서 조회되었을 수 있으므로 연관관계 지정과 읽기 용도로만 사용하고,
+     * 사용자 정보를 수정할 때는 {@link #getCurrentUserForUpdate()}를 사용한다.
+     */
     public User getCurrentUser() {
-        Long userId = SecurityUtil.getLoginMemberId()
-                .orElseThrow(() -> new RuntimeException("로그인한 사용자가 존재하지 않습니다."));
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자가 존재하지 않습니다."));
+        Long userId = getLoginMemberId();
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User user
+                && user.getId().equals(userId)) {
+            return user;
+        }
+
+        User user = userCache.get(userId, id -> userRepository.findById(id).orElse(null));
+        validateUser(user);
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    /**
+     * 수정용으로 영속 상태의 User를 조회하고, 커밋 후 캐시에서 제거한다.
+     */
+    public User getCurrentUserForUpdate() {
+        Long userId = getLoginMemberId();
+        User user = userRepository.findById(userId).orElse(null);
+        validateUser(user);
+
+        evict(userId);
+        return user;
+    }
+
+    public void evict(Long userId) {
+        userCache.invalidate(userId);
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private Long getLoginMemberId() {
+        return SecurityUtil.getLoginMemberId()
+                .orElseThrow(NotAuthenticatedException::new);
+    }
+
+    private void validateUser(User user) {
+        if (user == null) {
+            throw new MemberNotFoundException();
+        }
+        if (user.isDeleted()) {
+            throw new NotAuthenticatedException();
+        }
     }
 }
@@ -13,6 +13,12 @@ import ssafy.horong.common.properties.*;
         S3Properties.class,
         WebClientProperties.class,
         ElasticsearchProperties.class,
+        PostIndexProperties.class,
+        DataServerProperties.class,
+        ShortFormFeedProperties.class,
+        WatchLogProperties.class,
+        EducationScoringProperties.class,
+        NotificationProperties.class,
 })
 public class PropertiesConfig {
 }
@@ -11,6 +11,7 @@ import io.lettuce.core.cluster.ClusterClientOptions;
 import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -19,6 +20,8 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import ssafy.horong.common.properties.RedisProperties;
@@ -39,7 +42,7 @@ public class RedisConfig {
         return clusterConfiguration;
     }
 
-    private LettuceClientConfiguration clientConfiguration() {
+    private LettuceClientConfiguration clientConfiguration(ReadFrom readFrom) {
         ClusterTopologyRefreshOptions clusterTopologyRefreshOptions = ClusterTopologyRefreshOptions.builder()
                 .enableAllAdaptiveRefreshTriggers()
                 .enablePeriodicRefresh(Duration.ofHours(1L))
@@ -51,13 +54,31 @@ public class RedisConfig {
 
         return LettuceClientConfiguration.builder()
                 .clientOptions(clientOptions)
-                .readFrom(ReadFrom.REPLICA_PREFERRED)
+                .readFrom(readFrom)
                 .build();
     }
 
     @Bean
+    @Primary
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(clusterConfiguration(), clientConfiguration());
+        return new LettuceConnectionFactory(clusterConfiguration(), clientConfiguration(ReadFrom.REPLICA_PREFERRED));
+    }
+
+    // 쓰기 직후 다시 읽어야 해서 replica 복제 지연을 허용할 수 없는 곳(금칙어 교체/재적재)에서만 쓴다
+    @Bean
+    public RedisConnectionFactory masterRedisConnectionFactory() {
+        return new LettuceConnectionFactory(clusterConfiguration(), clientConfiguration(ReadFrom.UPSTREAM));
+    }
+
+    @Bean
+    @Primary
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    @Bean
+    public StringRedisTemplate masterStringRedisTemplate(@Qualifier("masterRedisConnectionFactory") RedisConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
     }
 
     private ObjectMapper objectMapper() {
@@ -92,4 +113,11 @@ public class RedisConfig {
 
         return template;
     }
-}
\ No newline at end of file
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
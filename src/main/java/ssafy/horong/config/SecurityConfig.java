@@ -1,5 +1,6 @@
 package ssafy.horong.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -47,6 +48,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
+                        // Mono를 반환하는 컨트롤러의 결과 전송(ASYNC 디스패치)은 최초 요청에서 이미 인가를 거쳤다
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(AUTHENTICATED_ONLY).authenticated()
                         .anyRequest().permitAll())
                 .addFilterAt(jwtAuthenticationFilter, BasicAuthenticationFilter.class) // addFilterAt으로 위치 지정
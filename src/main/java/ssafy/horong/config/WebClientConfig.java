@@ -1,19 +1,49 @@
 package ssafy.horong.config;
 
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import ssafy.horong.common.properties.DataServerProperties;
+
+import java.time.Duration;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
 
+    private final DataServerProperties dataServerProperties;
+
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
 
+    /**
+     * 데이터 서버 전용 WebClient. 커넥션 수와 대기열을 제한해 데이터 서버가 느려져도 대기가 무한히 쌓이지 않게 한다.
+     * 응답 타임아웃은 가장 긴 채점 요청 기준이고, 엔드포인트별 타임아웃은 DataServerClient에서 건다.
+     */
     @Bean
     public WebClient webClient(WebClient.Builder builder) {
-        return builder.build();
+        ConnectionProvider provider = ConnectionProvider.builder("data-server")
+                .maxConnections(dataServerProperties.maxConnections())
+                .pendingAcquireMaxCount(dataServerProperties.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(dataServerProperties.pendingAcquireTimeout())
+                .maxIdleTime(dataServerProperties.maxIdleTime())
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) dataServerProperties.connectTimeout().toMillis())
+                .responseTimeout(dataServerProperties.scoringTimeout());
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
-}
\ No newline at end of file
+}
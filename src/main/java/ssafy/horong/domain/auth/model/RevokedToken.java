@@ -0,0 +1,11 @@
+package ssafy.horong.domain.auth.model;
+
+/**
+ * 블랙리스트에 등록된 토큰. 다른 노드의 로컬 블랙리스트로 전파할 때 사용한다.
+ * expiresAt은 블랙리스트 항목이 만료되는 시각(epoch millis).
+ */
+public record RevokedToken(
+        String token,
+        long expiresAt
+) {
+}
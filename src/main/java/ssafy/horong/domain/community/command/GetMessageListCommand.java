@@ -1,6 +1,9 @@
 package ssafy.horong.domain.community.command;
 
 public record GetMessageListCommand(
-        Long roomId
+        Long roomId,
+        Long beforeId, // 이 id보다 오래된 메시지 조회 (없으면 최신 메시지부터)
+        Long afterId,  // 이 id보다 새로운 메시지 조회
+        int size
 ) {
 }
@@ -1,50 +1,56 @@
 package ssafy.horong.domain.community.elastic;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.ApplicationListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.stereotype.Component;
+import ssafy.horong.common.properties.PostIndexProperties;
 
+/**
+ * 게시글 검색 인덱스와 alias를 만든다. PostDocument는 createIndex=false라서, alias가 없을 때 색인하면
+ * bulk 요청이 동적 매핑으로 'posts' 인덱스를 자동 생성해 버린다.
+ * 그래서 @Scheduled 작업이 등록되기 전(싱글톤 초기화 직후)에 만들고, 색인 스케줄러도 {@link #ensureIndex()}가 true일 때만 반영한다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
-public class ElasticsearchIndexInitializer implements ApplicationListener<ApplicationReadyEvent> {
+public class ElasticsearchIndexInitializer implements SmartInitializingSingleton {
 
-    private final ElasticsearchClient elasticsearchClient;
+    private final PostIndexManager postIndexManager;
+    private final PostIndexProperties postIndexProperties;
+
+    private volatile boolean ready;
 
     @Override
-    public void onApplicationEvent(ApplicationReadyEvent event) {
-        try {
-            // 인덱스가 존재하는지 확인
-            boolean indexExists = elasticsearchClient.indices().exists(e -> e.index("posts")).value();
-            if (!indexExists) {
-                // 인덱스가 없다면 생성
-                CreateIndexRequest request = new CreateIndexRequest.Builder()
-                        .index("posts")
-                        .settings(s -> s
-                                .numberOfShards("1")
-                                .numberOfReplicas("1")
-                        )
-                        .mappings(m -> m
-                                .properties("titleKo", p -> p.text(t -> t.analyzer("nori")))
-                                .properties("titleZh", p -> p.text(t -> t.analyzer("ik_max_word")))
-                                .properties("titleJa", p -> p.text(t -> t.analyzer("kuromoji")))
-                                .properties("titleEn", p -> p.text(t -> t.analyzer("english")))
-                                .properties("contentKo", p -> p.text(t -> t.analyzer("nori")))
-                                .properties("contentZh", p -> p.text(t -> t.analyzer("ik_max_word")))
-                                .properties("contentJa", p -> p.text(t -> t.analyzer("kuromoji")))
-                                .properties("contentEn", p -> p.text(t -> t.analyzer("english")))
-                                .properties("author", p -> p.keyword(k -> k))
-                                .properties("postId", p -> p.keyword(k -> k))
-                        )
-                        .build();
+    public void afterSingletonsInstantiated() {
+        ensureIndex();
+    }
 
-                elasticsearchClient.indices().create(request);
-                System.out.println("Elasticsearch 'posts' 인덱스가 생성되었습니다.");
+    /**
+     * alias(또는 alias 도입 이전 인덱스)가 없으면 새 버전 인덱스를 만들고 alias를 연결한다.
+     * 기동 시 Elasticsearch에 연결하지 못했으면 다음 호출 때 다시 시도한다.
+     *
+     * @return alias 또는 인덱스가 있으면 true
+     */
+    public boolean ensureIndex() {
+        if (ready) {
+            return true;
+        }
+        synchronized (this) {
+            if (ready) {
+                return true;
+            }
+            try {
+                if (!postIndexManager.aliasOrIndexExists()) {
+                    String indexName = postIndexManager.newVersionedIndexName();
+                    postIndexManager.createIndex(indexName, postIndexProperties.shards(), postIndexProperties.replicas(), false);
+                    postIndexManager.swapAlias(indexName);
+                }
+                ready = true;
+            } catch (Exception e) {
+                log.error("Elasticsearch 인덱스 생성 오류: {}", e.getMessage());
             }
-        } catch (Exception e) {
-            System.err.println("Elasticsearch 인덱스 생성 오류: " + e.getMessage());
+            return ready;
         }
     }
 }
@@ -3,21 +3,33 @@ package ssafy.horong.domain.community.elastic;
 import lombok.Builder;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import ssafy.horong.domain.community.entity.ContentByLanguage;
+import ssafy.horong.domain.community.entity.Post;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
-@Document(indexName = "posts")
+@Document(indexName = PostIndexManager.ALIAS, createIndex = false)
 public class PostDocument {
 
     @Id
-    private String id;  // 고유 ID: "postId-language" 형식 사용
+    private String id;  // 고유 ID: 게시글 ID
     private Long postId; // 실제 게시물 ID
     private String author; // 작성자
     private Long authorId; // 작성자 ID
 
+    @Field(type = FieldType.Keyword)
+    private String profileImg; // 작성자 프로필 이미지 번호
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+    private LocalDateTime createdAt; // 게시글 작성 일시
+
     @Field(type = FieldType.Text, analyzer = "nori") // 한국어 분석기
     private String titleKo; // 한국어 제목
 
@@ -43,4 +55,41 @@ public class PostDocument {
     private String contentEn; // 영어 콘텐츠
 
     private String language; // 언어 정보
+
+    public static PostDocument of(Post post, List<ContentByLanguage> contents) {
+        PostDocument document = PostDocument.builder()
+                .id(String.valueOf(post.getId()))
+                .postId(post.getId())
+                .author(post.getAuthor().getNickname())
+                .authorId(post.getAuthor().getId())
+                .profileImg(post.getAuthor().getProfileImg())
+                .createdAt(post.getCreatedAt())
+                .build();
+
+        for (ContentByLanguage content : contents) {
+            if (content.getLanguage() == null) {
+                continue;
+            }
+            boolean isTitle = content.getContentType() == ContentByLanguage.ContentType.TITLE;
+            switch (content.getLanguage()) {
+                case KOREAN -> {
+                    if (isTitle) document.setTitleKo(content.getContent());
+                    else document.setContentKo(content.getContent());
+                }
+                case CHINESE -> {
+                    if (isTitle) document.setTitleZh(content.getContent());
+                    else document.setContentZh(content.getContent());
+                }
+                case JAPANESE -> {
+                    if (isTitle) document.setTitleJa(content.getContent());
+                    else document.setContentJa(content.getContent());
+                }
+                case ENGLISH -> {
+                    if (isTitle) document.setTitleEn(content.getContent());
+                    else document.setContentEn(content.getContent());
+                }
+            }
+        }
+        return document;
+    }
 }
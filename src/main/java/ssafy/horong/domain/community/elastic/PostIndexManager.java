@@ -0,0 +1,101 @@
+package ssafy.horong.domain.community.elastic;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 검색 인덱스 관리.
+ * 애플리케이션은 항상 "posts" alias로 읽고 쓰며, 실제 데이터는 버전이 붙은 인덱스(posts_yyyyMMddHHmmss)에 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostIndexManager {
+
+    public static final String ALIAS = "posts";
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ElasticsearchClient elasticsearchClient;
+
+    public String newVersionedIndexName() {
+        return ALIAS + "_" + LocalDateTime.now().format(VERSION_FORMAT);
+    }
+
+    public boolean aliasOrIndexExists() throws IOException {
+        return elasticsearchClient.indices().exists(e -> e.index(ALIAS)).value();
+    }
+
+    // 적재 중에는 replica 0, refresh 비활성화로 색인 비용을 줄인다
+    public void createIndex(String indexName, int shards, int replicas, boolean bulkLoading) throws IOException {
+        elasticsearchClient.indices().create(c -> c
+                .index(indexName)
+                .settings(s -> s
+                        .numberOfShards(String.valueOf(shards))
+                        .numberOfReplicas(String.valueOf(bulkLoading ? 0 : replicas))
+                        .refreshInterval(t -> t.time(bulkLoading ? "-1" : "1s")))
+                .mappings(m -> m
+                        .properties("titleKo", p -> p.text(t -> t.analyzer("nori")))
+                        .properties("titleZh", p -> p.text(t -> t.analyzer("ik_max_word")))
+                        .properties("titleJa", p -> p.text(t -> t.analyzer("kuromoji")))
+                        .properties("titleEn", p -> p.text(t -> t.analyzer("english")))
+                        .properties("contentKo", p -> p.text(t -> t.analyzer("nori")))
+                        .properties("contentZh", p -> p.text(t -> t.analyzer("ik_max_word")))
+                        .properties("contentJa", p -> p.text(t -> t.analyzer("kuromoji")))
+                        .properties("contentEn", p -> p.text(t -> t.analyzer("english")))
+                        .properties("author", p -> p.keyword(k -> k))
+                        .properties("postId", p -> p.keyword(k -> k))
+                        .properties("authorId", p -> p.long_(l -> l))
+                        .properties("profileImg", p -> p.keyword(k -> k))
+                        .properties("createdAt", p -> p.date(d -> d.format("date_hour_minute_second_millis")))));
+        log.info("게시글 검색 인덱스 생성: {}", indexName);
+    }
+
+    // 적재가 끝난 인덱스를 서비스 설정(replica, refresh)으로 되돌린다
+    public void finishBulkLoading(String indexName, int replicas) throws IOException {
+        elasticsearchClient.indices().putSettings(p -> p
+                .index(indexName)
+                .settings(s -> s
+                        .numberOfReplicas(String.valueOf(replicas))
+                        .refreshInterval(t -> t.time("1s"))));
+        elasticsearchClient.indices().refresh(r -> r.index(indexName));
+    }
+
+    /**
+     * "posts" alias를 새 인덱스로 원자적으로 옮긴다.
+     * alias 도입 이전의 "posts" 실제 인덱스가 있으면 같은 요청에서 제거한다.
+     *
+     * @return alias가 가리키던 이전 인덱스 목록
+     */
+    public Set<String> swapAlias(String newIndex) throws IOException {
+        List<Action> actions = new ArrayList<>();
+        Set<String> previousIndices = Set.of();
+
+        boolean aliasExists = elasticsearchClient.indices().existsAlias(e -> e.name(ALIAS)).value();
+        if (aliasExists) {
+            previousIndices = elasticsearchClient.indices().getAlias(g -> g.name(ALIAS)).result().keySet();
+            previousIndices.forEach(index -> actions.add(Action.of(a -> a.remove(r -> r.index(index).alias(ALIAS)))));
+        } else if (aliasOrIndexExists()) {
+            actions.add(Action.of(a -> a.removeIndex(r -> r.index(ALIAS))));
+        }
+        actions.add(Action.of(a -> a.add(ad -> ad.index(newIndex).alias(ALIAS).isWriteIndex(true))));
+
+        elasticsearchClient.indices().updateAliases(u -> u.actions(actions));
+        log.info("게시글 검색 alias 교체: {} -> {}", previousIndices, newIndex);
+        return previousIndices;
+    }
+
+    public void deleteIndex(String indexName) throws IOException {
+        elasticsearchClient.indices().delete(d -> d.index(indexName));
+        log.info("이전 게시글 검색 인덱스 삭제: {}", indexName);
+    }
+}
@@ -0,0 +1,153 @@
+package ssafy.horong.domain.community.elastic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ssafy.horong.domain.community.entity.ContentByLanguage;
+import ssafy.horong.domain.community.entity.Post;
+import ssafy.horong.domain.community.entity.PostIndexOutbox;
+import ssafy.horong.domain.community.repository.BoardRepository;
+import ssafy.horong.domain.community.repository.ContentByCountryRepository;
+import ssafy.horong.domain.community.repository.PostIndexOutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * outbox에 쌓인 게시글 변경을 모아 Elasticsearch에 bulk로 반영한다.
+ * 실패하면 outbox 행을 남겨 두고 지수 백오프 후 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class PostIndexer {
+
+    public static final int BATCH_SIZE = 500;
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private final PostIndexOutboxRepository outboxRepository;
+    private final BoardRepository postRepository;
+    private final ContentByCountryRepository contentByLanguageRepository;
+    private final PostElasticsearchRepository postElasticsearchRepository;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter indexedCounter;
+    private final Counter failureCounter;
+
+    public PostIndexer(PostIndexOutboxRepository outboxRepository,
+                       BoardRepository postRepository,
+                       ContentByCountryRepository contentByLanguageRepository,
+                       PostElasticsearchRepository postElasticsearchRepository,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.postRepository = postRepository;
+        this.contentByLanguageRepository = contentByLanguageRepository;
+        this.postElasticsearchRepository = postElasticsearchRepository;
+        this.indexedCounter = meterRegistry.counter("post.index.indexed");
+        this.failureCounter = meterRegistry.counter("post.index.failures");
+        meterRegistry.gauge("post.index.lag.millis", lagMillis);
+    }
+
+    /**
+     * 처리 시점이 된 outbox 행을 한 묶음 반영한다.
+     *
+     * @return 이번에 가져온 outbox 행 수
+     */
+    @Transactional
+    public int indexPendingBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PostIndexOutbox> batch = outboxRepository.findDueForUpdate(now, PageRequest.of(0, BATCH_SIZE));
+        if (batch.isEmpty()) {
+            updateLag(now);
+            return 0;
+        }
+
+        // 같은 게시글에 대한 변경은 마지막 것만 반영
+        Map<Long, PostIndexOutbox.Operation> latestOperations = new LinkedHashMap<>();
+        batch.forEach(outbox -> latestOperations.put(outbox.getPostId(), outbox.getOperation()));
+
+        try {
+            bulkApply(latestOperations);
+            outboxRepository.deleteAllInBatch(batch);
+            indexedCounter.increment(latestOperations.size());
+        } catch (Exception e) {
+            failureCounter.increment(batch.size());
+            batch.forEach(outbox -> outbox.retryAfter(now.plus(backoff(outbox.getAttempts()))));
+            log.error("게시글 검색 인덱스 반영 실패, 재시도 예정: size={}", batch.size(), e);
+        }
+
+        updateLag(now);
+        return batch.size();
+    }
+
+    private void bulkApply(Map<Long, PostIndexOutbox.Operation> latestOperations) {
+        Set<Long> upsertIds = latestOperations.entrySet().stream()
+                .filter(entry -> entry.getValue() == PostIndexOutbox.Operation.UPSERT)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+
+        Map<Long, Post> posts = upsertIds.isEmpty() ? Map.of() : postRepository.findAllWithAuthorByIdIn(upsertIds).stream()
+                .filter(post -> post.getDeletedAt() == null)
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<PostDocument> documents = toDocuments(posts.values());
+        // 삭제 요청이거나, 반영 전에 삭제/소프트 삭제된 게시글은 인덱스에서 제거
+        List<String> deleteIds = latestOperations.keySet().stream()
+                .filter(postId -> !posts.containsKey(postId))
+                .map(String::valueOf)
+                .toList();
+
+        if (!documents.isEmpty()) {
+            postElasticsearchRepository.saveAll(documents);
+        }
+        if (!deleteIds.isEmpty()) {
+            postElasticsearchRepository.deleteAllById(deleteIds);
+        }
+    }
+
+    /**
+     * 재색인용: id가 lastId보다 큰 삭제되지 않은 게시글을 id 순으로 size개 문서로 변환한다 (keyset pagination).
+     */
+    @Transactional(readOnly = true)
+    public List<PostDocument> loadDocumentsAfter(long lastId, int size) {
+        return toDocuments(postRepository.findActiveAfterId(lastId, PageRequest.of(0, size)));
+    }
+
+    // 재색인 중 변경된 게시글을 다시 outbox에 넣어 새 인덱스에 반영되도록 한다
+    @Transactional
+    public int enqueueChangedSince(LocalDateTime since) {
+        List<PostIndexOutbox> outboxes = postRepository.findIdsChangedSince(since).stream()
+                .map(PostIndexOutbox::upsert)
+                .toList();
+        outboxRepository.saveAll(outboxes);
+        return outboxes.size();
+    }
+
+    private List<PostDocument> toDocuments(Collection<Post> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<ContentByLanguage>> contents = contentByLanguageRepository.findAllByPostIds(posts.stream().map(Post::getId).toList()).stream()
+                .collect(Collectors.groupingBy(content -> content.getPost().getId()));
+        return posts.stream()
+                .map(post -> PostDocument.of(post, contents.getOrDefault(post.getId(), List.of())))
+                .toList();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(1L << Math.min(attempts, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    // 가장 오래 대기 중인 outbox 행의 대기 시간
+    private void updateLag(LocalDateTime now) {
+        lagMillis.set(outboxRepository.findOldestCreatedAt()
+                .map(oldest -> Duration.between(oldest, now).toMillis())
+                .orElse(0L));
+    }
+}
@@ -0,0 +1,153 @@
+package ssafy.horong.domain.community.elastic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+import ssafy.horong.common.exception.Board.ReindexInProgressException;
+import ssafy.horong.common.properties.PostIndexProperties;
+import ssafy.horong.domain.community.repository.BoardRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MySQL의 게시글을 새 버전 인덱스로 다시 색인한 뒤 "posts" alias를 교체한다.
+ * 매핑/분석기/shard 수를 바꿀 때나 ES 장애 중 누락된 게시글을 채울 때 사용한다.
+ */
+@Slf4j
+@Component
+public class PostReindexJob {
+
+    private final PostIndexer postIndexer;
+    private final PostIndexManager postIndexManager;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final BoardRepository postRepository;
+    private final PostIndexProperties postIndexProperties;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "post-reindex"));
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+
+    public PostReindexJob(PostIndexer postIndexer,
+                          PostIndexManager postIndexManager,
+                          ElasticsearchOperations elasticsearchOperations,
+                          BoardRepository postRepository,
+                          PostIndexProperties postIndexProperties,
+                          MeterRegistry meterRegistry) {
+        this.postIndexer = postIndexer;
+        this.postIndexManager = postIndexManager;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.postRepository = postRepository;
+        this.postIndexProperties = postIndexProperties;
+        meterRegistry.gauge("post.reindex.processed", processed);
+        meterRegistry.gauge("post.reindex.total", total);
+        meterRegistry.gauge("post.reindex.running", running, flag -> flag.get() ? 1 : 0);
+    }
+
+    /**
+     * 재색인을 백그라운드에서 시작하고 새 인덱스 이름을 반환한다.
+     */
+    public String start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ReindexInProgressException();
+        }
+        String indexName = postIndexManager.newVersionedIndexName();
+        jobExecutor.submit(() -> {
+            try {
+                reindex(indexName);
+            } catch (Exception e) {
+                log.error("게시글 재색인 실패: index={}", indexName, e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return indexName;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private void reindex(String indexName) throws Exception {
+        LocalDateTime startedAt = LocalDateTime.now();
+        processed.set(0);
+        total.set(postRepository.countByDeletedAtIsNull());
+        log.info("게시글 재색인 시작: index={}, total={}", indexName, total.get());
+
+        postIndexManager.createIndex(indexName, postIndexProperties.shards(), postIndexProperties.replicas(), true);
+        bulkLoad(indexName);
+        postIndexManager.finishBulkLoading(indexName, postIndexProperties.replicas());
+
+        Set<String> previousIndices = postIndexManager.swapAlias(indexName);
+        for (String previousIndex : previousIndices) {
+            postIndexManager.deleteIndex(previousIndex);
+        }
+
+        // 적재 중에 이전 인덱스로만 반영된 변경을 새 인덱스에 다시 반영
+        int changed = postIndexer.enqueueChangedSince(startedAt);
+        log.info("게시글 재색인 완료: index={}, processed={}, 재반영 대기={}", indexName, processed.get(), changed);
+    }
+
+    // MySQL에서 id 순으로 읽으면서 bulk 요청을 병렬로 보내되, 동시 요청 수와 초당 문서 수를 제한
+    private void bulkLoad(String indexName) throws Exception {
+        IndexCoordinates index = IndexCoordinates.of(indexName);
+        int parallelism = Math.max(1, postIndexProperties.parallelism());
+        ExecutorService bulkExecutor = Executors.newFixedThreadPool(parallelism);
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<Future<?>> futures = new ArrayList<>();
+        long startNanos = System.nanoTime();
+        long lastId = 0L;
+        long submitted = 0L;
+
+        try {
+            while (true) {
+                List<PostDocument> documents = postIndexer.loadDocumentsAfter(lastId, postIndexProperties.bulkSize());
+                if (documents.isEmpty()) {
+                    break;
+                }
+                lastId = documents.get(documents.size() - 1).getPostId();
+
+                inFlight.acquire();
+                futures.add(bulkExecutor.submit(() -> {
+                    try {
+                        elasticsearchOperations.save(documents, index);
+                        long done = processed.addAndGet(documents.size());
+                        log.info("게시글 재색인 진행: {}/{}", done, total.get());
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+                submitted += documents.size();
+                throttle(startNanos, submitted);
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            bulkExecutor.shutdownNow();
+        }
+    }
+
+    private void throttle(long startNanos, long submittedDocuments) throws InterruptedException {
+        int maxDocsPerSecond = postIndexProperties.maxDocsPerSecond();
+        if (maxDocsPerSecond <= 0) {
+            return;
+        }
+        long expectedMillis = submittedDocuments * 1000L / maxDocsPerSecond;
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (expectedMillis > elapsedMillis) {
+            Thread.sleep(expectedMillis - elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package ssafy.horong.domain.community.elastic;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import ssafy.horong.domain.member.common.Language;
+
+public interface PostSearchRepository {
+
+    // 모든 언어의 제목/본문과 작성자를 한 번의 쿼리로 검색 (사용자 언어 필드 가중치, ES에서 페이징)
+    SearchHits<PostDocument> searchByKeyword(String keyword, Language language, Pageable pageable);
+}
@@ -0,0 +1,70 @@
+package ssafy.horong.domain.community.elastic;
+
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.mapping.FieldType;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import ssafy.horong.domain.member.common.Language;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class PostSearchRepositoryImpl implements PostSearchRepository {
+
+    private static final Map<Language, String> FIELD_SUFFIXES = Map.of(
+            Language.KOREAN, "Ko",
+            Language.CHINESE, "Zh",
+            Language.JAPANESE, "Ja",
+            Language.ENGLISH, "En"
+    );
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    @Override
+    public SearchHits<PostDocument> searchByKeyword(String keyword, Language language, Pageable pageable) {
+        List<String> fields = boostedFields(language);
+
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> b
+                        .should(s -> s.multiMatch(m -> m
+                                .query(keyword)
+                                .fields(fields)
+                                .type(TextQueryType.BestFields)
+                                .operator(Operator.Or)))
+                        .should(s -> s.term(t -> t
+                                .field("author")
+                                .value(keyword)
+                                .boost(2.0f)))
+                        .minimumShouldMatch("1")))
+                // 관련도 순, 동점이면 최신순
+                .withSort(s -> s.score(sc -> sc.order(SortOrder.Desc)))
+                .withSort(s -> s.field(f -> f
+                        .field("createdAt")
+                        .order(SortOrder.Desc)
+                        .unmappedType(FieldType.Date)))
+                .withPageable(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                .build();
+
+        return elasticsearchOperations.search(query, PostDocument.class);
+    }
+
+    // 사용자 언어의 제목/본문에 더 높은 가중치를 준다
+    private List<String> boostedFields(Language language) {
+        String userSuffix = FIELD_SUFFIXES.get(language);
+        List<String> fields = new ArrayList<>();
+        FIELD_SUFFIXES.values().forEach(suffix -> {
+            boolean preferred = suffix.equals(userSuffix);
+            fields.add("title" + suffix + (preferred ? "^4" : "^2"));
+            fields.add("content" + suffix + (preferred ? "^2" : ""));
+        });
+        return fields;
+    }
+}
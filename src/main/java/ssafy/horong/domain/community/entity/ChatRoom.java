@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import ssafy.horong.domain.member.entity.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
@@ -12,6 +13,10 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_chat_room_host_last_message", columnList = "host_id, last_message_at"),
+        @Index(name = "idx_chat_room_guest_last_message", columnList = "guest_id, last_message_at")
+})
 public class ChatRoom {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -31,18 +36,34 @@ public class ChatRoom {
     @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL)
     private List<Message> messages;
 
+    // 채팅 목록 조회용 요약 (메시지 전송/읽음 시 갱신)
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "last_message_id")
+    private Message lastMessage;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    private long hostUnreadCount;  // 호스트가 읽지 않은 메시지 수
+
+    private long guestUnreadCount; // 게스트가 읽지 않은 메시지 수
+
     /**
      * 현재 사용자가 호스트 또는 게스트인지 확인하고,
      * 상대방을 반환하는 메서드.
      *
      */
     public User getOpponent(User currentUser) {
-        if (currentUser.equals(host)) {
+        if (currentUser.getId().equals(host.getId())) {
             return guest;
-        } else if (currentUser.equals(guest)) {
+        } else if (currentUser.getId().equals(guest.getId())) {
             return host;
         } else {
             return host;
         }
     }
+
+    public long getUnreadCountFor(User user) {
+        return user.getId().equals(host.getId()) ? hostUnreadCount : guestUnreadCount;
+    }
 }
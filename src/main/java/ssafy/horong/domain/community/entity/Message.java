@@ -12,6 +12,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = @Index(name = "idx_message_chat_room_read", columnList = "chat_room_id, is_read"))
 public class Message {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,60 @@
+package ssafy.horong.domain.community.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 검색 인덱스 반영 대기열 (transactional outbox).
+ * 게시글 변경과 같은 트랜잭션에서 저장되고, 인덱서가 Elasticsearch에 반영한 뒤 삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_post_index_outbox_next_attempt", columnList = "nextAttemptAt, id"))
+public class PostIndexOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    private Operation operation;
+
+    private int attempts;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime nextAttemptAt;
+
+    private PostIndexOutbox(Long postId, Operation operation) {
+        this.postId = postId;
+        this.operation = operation;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        nextAttemptAt = createdAt;
+    }
+
+    public void retryAfter(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public static PostIndexOutbox upsert(Long postId) {
+        return new PostIndexOutbox(postId, Operation.UPSERT);
+    }
+
+    public static PostIndexOutbox delete(Long postId) {
+        return new PostIndexOutbox(postId, Operation.DELETE);
+    }
+
+    public enum Operation {
+        UPSERT, DELETE
+    }
+}
@@ -0,0 +1,13 @@
+package ssafy.horong.domain.community.event;
+
+import ssafy.horong.api.community.response.NotificationResponse;
+
+/**
+ * 알림이 저장되었을 때 발행되는 이벤트.
+ * 커밋 이후 수신자의 SSE 연결로 새 알림 한 건만 전송한다.
+ */
+public record NotificationCreatedEvent(
+        Long receiverId,
+        NotificationResponse notification
+) {
+}
@@ -0,0 +1,24 @@
+package ssafy.horong.domain.community.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ssafy.horong.domain.redis.NotificationRedisPublisher;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationEventListener {
+
+    private final NotificationRedisPublisher notificationRedisPublisher;
+
+    // 롤백된 알림이 전송되지 않도록 커밋 이후에만 발행
+    // 수신자의 SSE 연결을 가진 노드가 Redis 구독으로 받아 전달한다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationCreated(NotificationCreatedEvent event) {
+        notificationRedisPublisher.publish(event.receiverId(), event.notification());
+        log.debug("알림 발행: receiverId={}, notificationId={}", event.receiverId(), event.notification().id());
+    }
+}
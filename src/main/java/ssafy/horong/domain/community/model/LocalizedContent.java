@@ -0,0 +1,14 @@
+package ssafy.horong.domain.community.model;
+
+import ssafy.horong.domain.community.entity.ContentByLanguage;
+
+/**
+ * 게시글/댓글 목록 조회 시 한 번에 가져오는 언어별 본문 프로젝션.
+ * ownerId는 게시글 id 또는 댓글 id.
+ */
+public record LocalizedContent(
+        Long ownerId,
+        ContentByLanguage.ContentType contentType,
+        String content
+) {
+}
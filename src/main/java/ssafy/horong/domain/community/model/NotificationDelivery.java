@@ -0,0 +1,24 @@
+package ssafy.horong.domain.community.model;
+
+import ssafy.horong.api.community.response.NotificationResponse;
+
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.NOTIFICATION_CHANNEL;
+
+/**
+ * Redis pub/sub으로 노드 간에 전달되는 알림 한 건.
+ * publishedAt은 전달 지연(lag) 측정용 발행 시각(epoch millis).
+ * 노드는 자기 사용자가 속한 shard만 구독하므로, shard 수가 노드당 사용자 수보다 작으면 사실상 모든 알림을 받게 된다.
+ */
+public record NotificationDelivery(
+        Long receiverId,
+        NotificationResponse notification,
+        long publishedAt
+) {
+    public static int shardOf(Long userId, int shardCount) {
+        return (int) Math.floorMod(userId, (long) shardCount);
+    }
+
+    public static String channelOf(int shard) {
+        return NOTIFICATION_CHANNEL + shard;
+    }
+}
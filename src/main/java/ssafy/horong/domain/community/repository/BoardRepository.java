@@ -2,16 +2,41 @@ package ssafy.horong.domain.community.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.annotations.Query;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ssafy.horong.domain.community.entity.BoardType;
 import ssafy.horong.domain.community.entity.Post;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Post, Long> {
-    Page<Post> findByType(BoardType type, Pageable pageable);
-    List<Post> findByTypeOrderByCreatedAtDesc(BoardType boardType, Pageable pageable);
+
+    // 삭제되지 않은 게시글만 작성자와 함께 조회 (페이지 크기가 DB 기준으로 맞춰짐)
+    @Query(value = "SELECT p FROM Post p JOIN FETCH p.author " +
+            "WHERE p.type = :type AND p.deletedAt IS NULL",
+            countQuery = "SELECT COUNT(p) FROM Post p " +
+                    "WHERE p.type = :type AND p.deletedAt IS NULL")
+    Page<Post> findActivePageByType(@Param("type") BoardType type, Pageable pageable);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.author " +
+            "WHERE p.type = :type AND p.deletedAt IS NULL")
+    List<Post> findActiveByType(@Param("type") BoardType type, Pageable pageable);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.id IN :ids")
+    List<Post> findAllWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 재색인용 keyset pagination
+    @Query("SELECT p FROM Post p JOIN FETCH p.author " +
+            "WHERE p.id > :lastId AND p.deletedAt IS NULL " +
+            "ORDER BY p.id")
+    List<Post> findActiveAfterId(@Param("lastId") long lastId, Pageable pageable);
+
+    long countByDeletedAtIsNull();
+
+    @Query("SELECT p.id FROM Post p " +
+            "WHERE p.createdAt >= :since OR p.updatedAt >= :since OR p.deletedAt >= :since")
+    List<Long> findIdsChangedSince(@Param("since") LocalDateTime since);
 }
@@ -1,11 +1,16 @@
 package ssafy.horong.domain.community.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import ssafy.horong.domain.community.entity.ChatRoom;
+import ssafy.horong.domain.community.entity.Message;
 import ssafy.horong.domain.member.entity.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +24,54 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     @Query("SELECT c.post.id FROM ChatRoom c WHERE c.id = :chatRoomId")
     Long findPostIdByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+    // 채팅 목록: 마지막 메시지 시각 순으로 페이지 단위 조회한 채팅방 id
+    // host/guest 조건을 OR로 묶으면 인덱스를 못 타므로, host_id/guest_id + last_message_at 인덱스를 각각 타는 두 쿼리를
+    // offset + size개씩 읽어 UNION ALL로 합친다. 자기 자신과의 채팅방은 host 쪽에서만 읽는다
+    @Query(value = "SELECT inbox.id FROM (" +
+            "(SELECT c.id, c.last_message_at FROM chat_room c " +
+            "WHERE c.host_id = :userId AND c.last_message_at IS NOT NULL " +
+            "ORDER BY c.last_message_at DESC LIMIT :branchLimit) " +
+            "UNION ALL " +
+            "(SELECT c.id, c.last_message_at FROM chat_room c " +
+            "WHERE c.guest_id = :userId AND c.host_id <> :userId AND c.last_message_at IS NOT NULL " +
+            "ORDER BY c.last_message_at DESC LIMIT :branchLimit)" +
+            ") inbox " +
+            "ORDER BY inbox.last_message_at DESC, inbox.id DESC " +
+            "LIMIT :size OFFSET :offset", nativeQuery = true)
+    List<Long> findInboxIdsByUserId(@Param("userId") Long userId, @Param("size") int size,
+                                    @Param("offset") long offset, @Param("branchLimit") long branchLimit);
+
+    @Query("SELECT c FROM ChatRoom c " +
+            "JOIN FETCH c.host JOIN FETCH c.guest LEFT JOIN FETCH c.lastMessage " +
+            "WHERE c.id IN :ids")
+    List<ChatRoom> findAllWithParticipantsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 동시 전송에도 카운터가 유실되지 않도록 한 번의 UPDATE로 요약 갱신
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ChatRoom c SET c.lastMessage = :message, c.lastMessageAt = :sentAt, " +
+            "c.hostUnreadCount = c.hostUnreadCount + CASE WHEN c.host.id = :senderId THEN 0 ELSE 1 END, " +
+            "c.guestUnreadCount = c.guestUnreadCount + CASE WHEN c.guest.id = :senderId THEN 0 ELSE 1 END " +
+            "WHERE c.id = :chatRoomId")
+    int recordMessage(@Param("chatRoomId") Long chatRoomId, @Param("message") Message message,
+                      @Param("senderId") Long senderId, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ChatRoom c SET " +
+            "c.hostUnreadCount = CASE WHEN c.host.id = :userId THEN 0 ELSE c.hostUnreadCount END, " +
+            "c.guestUnreadCount = CASE WHEN c.guest.id = :userId THEN 0 ELSE c.guestUnreadCount END " +
+            "WHERE c.id = :chatRoomId")
+    int resetUnreadCount(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+
+    // 요약 컬럼 도입 이전에 만들어진 채팅방을 메시지 테이블 기준으로 채운다. 기동 시 리스너에서 바로 부르므로 자체 트랜잭션으로 돈다
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE chat_room c SET " +
+            "c.last_message_id = (SELECT MAX(m.id) FROM message m WHERE m.chat_room_id = c.id), " +
+            "c.last_message_at = (SELECT MAX(m.created_at) FROM message m WHERE m.chat_room_id = c.id), " +
+            "c.host_unread_count = (SELECT COUNT(*) FROM message m WHERE m.chat_room_id = c.id AND m.is_read = false AND m.user_id <> c.host_id), " +
+            "c.guest_unread_count = (SELECT COUNT(*) FROM message m WHERE m.chat_room_id = c.id AND m.is_read = false AND m.user_id <> c.guest_id) " +
+            "WHERE c.last_message_at IS NULL " +
+            "AND EXISTS (SELECT 1 FROM message m WHERE m.chat_room_id = c.id)", nativeQuery = true)
+    int backfillSummaries();
 }
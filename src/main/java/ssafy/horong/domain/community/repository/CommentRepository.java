@@ -1,7 +1,17 @@
 package ssafy.horong.domain.community.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ssafy.horong.domain.community.entity.Comment;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+            "WHERE c.board.id IN :postIds " +
+            "ORDER BY c.createdAt DESC")
+    List<Comment> findAllByPostIdsWithAuthor(@Param("postIds") Collection<Long> postIds);
 }
@@ -1,7 +1,28 @@
 package ssafy.horong.domain.community.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ssafy.horong.domain.community.entity.ContentByLanguage;
+import ssafy.horong.domain.community.model.LocalizedContent;
+import ssafy.horong.domain.member.common.Language;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ContentByCountryRepository extends JpaRepository<ContentByLanguage, Long> {
+
+    @Query("SELECT new ssafy.horong.domain.community.model.LocalizedContent(c.post.id, c.contentType, c.content) " +
+            "FROM ContentByLanguage c " +
+            "WHERE c.post.id IN :postIds AND c.language = :language")
+    List<LocalizedContent> findPostContents(@Param("postIds") Collection<Long> postIds, @Param("language") Language language);
+
+    @Query("SELECT new ssafy.horong.domain.community.model.LocalizedContent(c.comment.id, c.contentType, c.content) " +
+            "FROM ContentByLanguage c " +
+            "WHERE c.comment.id IN :commentIds AND c.language = :language")
+    List<LocalizedContent> findCommentContents(@Param("commentIds") Collection<Long> commentIds, @Param("language") Language language);
+
+    // 검색 인덱싱용: 게시글의 모든 언어 제목/본문
+    @Query("SELECT c FROM ContentByLanguage c WHERE c.post.id IN :postIds")
+    List<ContentByLanguage> findAllByPostIds(@Param("postIds") Collection<Long> postIds);
 }
@@ -1,6 +1,8 @@
 package ssafy.horong.domain.community.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ssafy.horong.domain.community.entity.ChatRoom;
@@ -10,8 +12,22 @@ import ssafy.horong.domain.member.entity.User;
 import java.util.List;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
-    @Query("select m from Message m where m.chatRoom.id = :chatRoomId")
-    List<Message> findAllByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+    // 메시지 id 기준 keyset pagination (chat_room_id 인덱스 + PK 순서)
+    @Query("SELECT m FROM Message m JOIN FETCH m.user " +
+            "WHERE m.chatRoom.id = :chatRoomId AND (:beforeId IS NULL OR m.id < :beforeId) " +
+            "ORDER BY m.id DESC")
+    List<Message> findPageBefore(@Param("chatRoomId") Long chatRoomId, @Param("beforeId") Long beforeId, Pageable pageable);
+
+    @Query("SELECT m FROM Message m JOIN FETCH m.user " +
+            "WHERE m.chatRoom.id = :chatRoomId AND m.id > :afterId " +
+            "ORDER BY m.id ASC")
+    List<Message> findPageAfter(@Param("chatRoomId") Long chatRoomId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 상대가 보낸 안 읽은 메시지를 한 번의 UPDATE로 읽음 처리
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Message m SET m.isRead = true " +
+            "WHERE m.chatRoom.id = :chatRoomId AND m.user.id <> :userId AND m.isRead = false")
+    int markAllReadByOpponent(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
 
     List<Message> findAllByUser(User user);
 
@@ -2,6 +2,8 @@
 package ssafy.horong.domain.community.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ssafy.horong.domain.community.entity.Notification;
 import ssafy.horong.domain.member.entity.User;
 
@@ -10,4 +12,12 @@ import java.util.List;
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByReceiverAndIsReadFalse(User receiver); // receiver로 변경
     List<Notification> findByReceiverAndIsReadFalseAndType(User receiver, Notification.NotificationType type); // 특정 타입의 읽지 않은 알림
+
+    // SSE 재연결 시 읽지 않은 알림 재전송용 (보낸 사람/게시글/메시지를 한 번에 조회)
+    @Query("SELECT n FROM Notification n JOIN FETCH n.sender " +
+            "LEFT JOIN FETCH n.Post " +
+            "LEFT JOIN FETCH n.Message m LEFT JOIN FETCH m.chatRoom " +
+            "WHERE n.receiver.id = :receiverId AND n.isRead = false " +
+            "ORDER BY n.createdAt")
+    List<Notification> findUnreadWithDetailsByReceiverId(@Param("receiverId") Long receiverId);
 }
@@ -0,0 +1,27 @@
+package ssafy.horong.domain.community.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import ssafy.horong.domain.community.entity.PostIndexOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PostIndexOutboxRepository extends JpaRepository<PostIndexOutbox, Long> {
+
+    // 여러 인스턴스가 동시에 처리해도 같은 행을 잡지 않도록 SKIP LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM PostIndexOutbox o WHERE o.nextAttemptAt <= :now ORDER BY o.id")
+    List<PostIndexOutbox> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT MIN(o.createdAt) FROM PostIndexOutbox o")
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
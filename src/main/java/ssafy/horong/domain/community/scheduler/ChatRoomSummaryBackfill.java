@@ -0,0 +1,34 @@
+package ssafy.horong.domain.community.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import ssafy.horong.common.util.StartupTaskGuard;
+import ssafy.horong.domain.community.repository.ChatRoomRepository;
+
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.CHAT_ROOM_SUMMARY_BACKFILL;
+
+/**
+ * 요약 컬럼 도입 이전에 만들어진 채팅방의 마지막 메시지/안 읽은 수를 채운다.
+ * 채팅방마다 메시지 테이블을 훑으므로 {@link StartupTaskGuard}로 한 노드에서 한 번만 돌린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSummaryBackfill implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final StartupTaskGuard startupTaskGuard;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        startupTaskGuard.runOnce(CHAT_ROOM_SUMMARY_BACKFILL, "채팅방 요약 정보 채움", () -> {
+            int updated = chatRoomRepository.backfillSummaries();
+            if (updated > 0) {
+                log.info("채팅방 요약 정보 채움: {}건", updated);
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package ssafy.horong.domain.community.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ssafy.horong.domain.community.elastic.ElasticsearchIndexInitializer;
+import ssafy.horong.domain.community.elastic.PostIndexer;
+
+@Component
+@RequiredArgsConstructor
+public class PostIndexScheduler {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final PostIndexer postIndexer;
+    private final ElasticsearchIndexInitializer elasticsearchIndexInitializer;
+
+    @Scheduled(fixedDelay = 1000) // 직전 실행이 끝나고 1초 후
+    public void indexPendingPosts() {
+        // 인덱스가 없을 때 반영하면 동적 매핑 인덱스가 자동 생성되므로, 만들어질 때까지 outbox에 남겨 둔다
+        if (!elasticsearchIndexInitializer.ensureIndex()) {
+            return;
+        }
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            // 한 묶음을 다 채우지 못했으면 더 처리할 것이 없음
+            if (postIndexer.indexPendingBatch() < PostIndexer.BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+}
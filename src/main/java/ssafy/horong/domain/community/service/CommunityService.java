@@ -26,7 +26,7 @@ public interface CommunityService {
     void deleteComment(Long commentId);
     void sendMessage(SendMessageCommand command);
     GetPostIdAndMessageListResponse getMessageList(GetMessageListCommand command);
-    List<GetAllMessageListResponse> getAllMessageList();
+    List<GetAllMessageListResponse> getAllMessageList(Pageable pageable);
     String saveImageToS3(MultipartFile file);
     Map<BoardType, List<GetPostResponse>> getMainPostList();
     GetOriginPostResponse getOriginalPost(Long id);
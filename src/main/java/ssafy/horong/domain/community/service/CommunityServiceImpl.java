@@ -4,15 +4,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.safety.Safelist;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import ssafy.horong.api.community.request.ContentImageRequest;
 import ssafy.horong.api.community.request.CreateContentByLanguageRequest;
 import ssafy.horong.api.community.response.*;
+import ssafy.horong.common.constant.global.S3_IMAGE;
 import ssafy.horong.common.exception.Board.*;
-import ssafy.horong.common.util.NotificationUtil;
 import ssafy.horong.common.util.S3Util;
 import ssafy.horong.common.util.SecurityUtil;
 import ssafy.horong.common.util.UserUtil;
@@ -20,11 +23,15 @@ import ssafy.horong.domain.community.command.*;
 import ssafy.horong.domain.community.elastic.PostDocument;
 import ssafy.horong.domain.community.elastic.PostElasticsearchRepository;
 import ssafy.horong.domain.community.entity.*;
+import ssafy.horong.domain.community.event.NotificationCreatedEvent;
+import ssafy.horong.domain.community.model.LocalizedContent;
 import ssafy.horong.domain.community.repository.*;
 import ssafy.horong.domain.member.common.Language;
 import ssafy.horong.domain.member.common.MemberRole;
 import ssafy.horong.domain.member.entity.User;
 import ssafy.horong.domain.member.repository.UserRepository;
+import ssafy.horong.domain.moderation.ContentModerator;
+import ssafy.horong.domain.moderation.ModerationTarget;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -40,18 +47,22 @@ import static ssafy.horong.domain.community.entity.ContentByLanguage.ContentType
 @Transactional(readOnly = true)
 public class CommunityServiceImpl implements CommunityService {
 
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
     private final BoardRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final MessageRepository messageRepository;
     private final PostElasticsearchRepository postElasticsearchRepository;
+    private final PostIndexOutboxRepository postIndexOutboxRepository;
     private final NotificationRepository notificationRepository;
-    private final NotificationUtil notificationUtil;
+    private final ApplicationEventPublisher eventPublisher;
     private final S3Util s3Util;
     private final ContentImageRepository contentImageRepository;
     private final ContentByCountryRepository contentByLanguageRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final UserUtil userUtil;
+    private final ContentModerator contentModerator;
 
     @Transactional
     public void createPost(CreatePostCommand command) {
@@ -70,7 +81,7 @@ public class CommunityServiceImpl implements CommunityService {
         post.setContentByCountries(contentEntities);
         postRepository.save(post);
 
-        savePostDocument(post, command.content());
+        postIndexOutboxRepository.save(PostIndexOutbox.upsert(post.getId()));
         log.info("사용자 {}의 게시글 생성: {}", userUtil.getCurrentUser().getId(), post.getId());
     }
 
@@ -90,9 +101,10 @@ public class CommunityServiceImpl implements CommunityService {
 
         updateContentImages(command, mainContentMap);
 
+        post.setUpdatedAt(LocalDateTime.now());
         postRepository.save(post);
 
-        savePostDocument(post, command.content());
+        postIndexOutboxRepository.save(PostIndexOutbox.upsert(post.getId()));
         log.info("게시글 업데이트: {}", post);
     }
 
@@ -103,13 +115,14 @@ public class CommunityServiceImpl implements CommunityService {
         validateUserOrAdmin(post.getAuthor());
 
         post.setDeletedAt(LocalDateTime.now());
+        postIndexOutboxRepository.save(PostIndexOutbox.delete(post.getId()));
         log.info("게시글 삭제: {}", id);
-        postElasticsearchRepository.deleteById(String.valueOf(post.getId()));
     }
 
     @Transactional
     @Override
     public void createComment(CreateCommentCommand command) {
+        contentModerator.validate(ModerationTarget.COMMENT, command.contentByCountries());
         Post post = getPost(command.postId());
 
         Comment comment = Comment.builder()
@@ -148,6 +161,7 @@ public class CommunityServiceImpl implements CommunityService {
     public void updateComment(UpdateCommentCommand command) {
         Comment comment = getComment(command.commentId());
         validateUserOrAdmin(comment.getAuthor());
+        contentModerator.validate(ModerationTarget.COMMENT, command.contentByCountries());
 
         if (command.contentByCountries() != null && !command.contentByCountries().isEmpty()) {
             Map<String, ContentByLanguage> contentMap = comment.getContentByCountries().stream()
@@ -204,7 +218,7 @@ public class CommunityServiceImpl implements CommunityService {
                     .map(contentByLanguageCommand -> {
                         ContentByLanguage contentEntity = ContentByLanguage.builder()
                                 .language(Optional.ofNullable(contentByLanguageCommand.language()).orElse(null))
-                                .content(contentByLanguageCommand.content())
+                                .content(contentModerator.mask(ModerationTarget.MESSAGE, contentByLanguageCommand.content()))
                                 .contentImages(contentImages)
                                 .build();
 
@@ -235,11 +249,12 @@ public class CommunityServiceImpl implements CommunityService {
         // 각 contentByCountries에 message 설정
         contentByCountries.forEach(contentByLanguage -> contentByLanguage.setMessage(message));
         messageRepository.save(message);
+        chatRoomRepository.recordMessage(message.getChatRoom().getId(), message, message.getUser().getId(), message.getCreatedAt());
 
         // 수신자에게 알림 전송
         User receiver = message.getChatRoom().getOpponent(userUtil.getCurrentUser());
         if (command.contentsByLanguages() != null) {
-            notifyByMessageUser(receiver, "메시지가 도착했습니다: " + command.contentsByLanguages().get(0).content(), Notification.NotificationType.MESSAGE, message);
+            notifyByMessageUser(receiver, "메시지가 도착했습니다: " + contentByCountries.get(0).getContent(), Notification.NotificationType.MESSAGE, message);
             log.info("메시지 전송: {}", receiver.getNickname());
         } else {
             notifyByMessageUser(receiver, "사진이 도착했습니다", Notification.NotificationType.MESSAGE, message);
@@ -247,46 +262,60 @@ public class CommunityServiceImpl implements CommunityService {
     }
 
     @Override
-    public List<GetAllMessageListResponse> getAllMessageList() {
-        List<ChatRoom> chatRooms = chatRoomRepository.findAllByUser(userUtil.getCurrentUser());
-        log.info("모든 채팅방 조회: {}", chatRooms);
+    public List<GetAllMessageListResponse> getAllMessageList(Pageable pageable) {
+        User currentUser = userUtil.getCurrentUser();
+        long offset = pageable.getOffset();
+        List<Long> chatRoomIds = chatRoomRepository.findInboxIdsByUserId(
+                currentUser.getId(), pageable.getPageSize(), offset, offset + pageable.getPageSize());
+        if (chatRoomIds.isEmpty()) {
+            return List.of();
+        }
+        // IN 조회는 순서를 보장하지 않으므로 목록 쿼리의 순서로 되돌린다
+        Map<Long, ChatRoom> chatRoomsById = chatRoomRepository.findAllWithParticipantsByIdIn(chatRoomIds).stream()
+                .collect(Collectors.toMap(ChatRoom::getId, chatRoom -> chatRoom));
 
-        return chatRooms.stream()
+        return chatRoomIds.stream()
+                .map(chatRoomsById::get)
+                .filter(Objects::nonNull)
                 .map(chatRoom -> {
-                    User opponent = chatRoom.getOpponent(userUtil.getCurrentUser());
-                    List<Message> messages = chatRoom.getMessages();
-
-                    long unreadCount = messageRepository.countUnreadMessagesForOpponent(chatRoom, userUtil.getCurrentUser());
-
-                    messages.sort(Comparator.comparing(Message::getCreatedAt).reversed());
-
-                    Message lastMessage = messages.get(0);
-                    String lastContent = getContentByLanguage(lastMessage.getContentByCountries(), userUtil.getCurrentUser().getLanguage());
+                    User opponent = chatRoom.getOpponent(currentUser);
+                    Message lastMessage = chatRoom.getLastMessage();
 
                     return new GetAllMessageListResponse(
                             chatRoom.getId(),
-                            unreadCount,
-                            lastContent,
+                            chatRoom.getUnreadCountFor(currentUser),
+                            getContentByLanguage(lastMessage.getContentByCountries(), currentUser.getLanguage()),
                             opponent.getNickname(),
                             opponent.getId(),
                             s3Util.getProfilePresignedUrlFromS3(opponent.getProfileImg()),
-                            lastMessage.getCreatedAt().toString(),
+                            chatRoom.getLastMessageAt().toString(),
                             chatRoom.getPost().getId()
                     );
                 })
-                .sorted(Comparator.comparing(GetAllMessageListResponse::createdAt).reversed())
                 .toList();
     }
 
     @Transactional
     @Override
     public GetPostIdAndMessageListResponse getMessageList(GetMessageListCommand command) {
-        List<Message> messages = messageRepository.findAllByChatRoomId(command.roomId());
         Long postId = chatRoomRepository.findPostIdByChatRoomId(command.roomId());
         User user = userUtil.getCurrentUser();
         Language userLanguage = user.getLanguage();
 
-        List<GetMessageListResponse> messageList = messages.stream()
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        int size = Math.min(Math.max(command.size(), 1), MAX_MESSAGE_PAGE_SIZE);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Message> messages = command.afterId() != null
+                ? messageRepository.findPageAfter(command.roomId(), command.afterId(), limit)
+                : messageRepository.findPageBefore(command.roomId(), command.beforeId(), limit);
+
+        boolean hasMore = messages.size() > size;
+        List<Message> page = new ArrayList<>(hasMore ? messages.subList(0, size) : messages);
+        if (command.afterId() == null) {
+            Collections.reverse(page); // 최신순으로 조회했으므로 오래된 순으로 정렬
+        }
+
+        List<GetMessageListResponse> messageList = page.stream()
                 .map(message -> {
                     // 사용자의 언어에 맞는 메시지 내용 추출
                     String content = getContentByLanguage(message.getContentByCountries(), userLanguage);
@@ -298,23 +327,21 @@ public class CommunityServiceImpl implements CommunityService {
                             .map(contentImage -> s3Util.getPresignedUrlFromS3(contentImage.getImageUrl()))
                             .orElse(null); // 이미지가 없을 경우 null
 
-                    // 메시지 읽음 처리
-                    if (!message.getUser().getId().equals(userUtil.getCurrentUser().getId())) {
-                        message.readMessage();
-                        messageRepository.save(message);
-                    }
-
-                    Message.UserMessageType userMessageType = message.getUser().getId().equals(userUtil.getCurrentUser().getId())
+                    Message.UserMessageType userMessageType = message.getUser().getId().equals(user.getId())
                             ? Message.UserMessageType.USER
                             : Message.UserMessageType.OPPONENT;
 
-                    return new GetMessageListResponse(content, imageUrl, message.getUser().getNickname(), message.getUser().getId(), s3Util.getProfilePresignedUrlFromS3(message.getUser().getProfileImg()), message.getCreatedAt().toString(), userMessageType);
+                    return new GetMessageListResponse(message.getId(), content, imageUrl, message.getUser().getNickname(), message.getUser().getId(), s3Util.getProfilePresignedUrlFromS3(message.getUser().getProfileImg()), message.getCreatedAt().toString(), userMessageType);
                 })
                 .toList();
 
+        // 메시지 읽음 처리: 메시지 수와 무관하게 UPDATE 한 번
+        messageRepository.markAllReadByOpponent(command.roomId(), user.getId());
+        chatRoomRepository.resetUnreadCount(command.roomId(), user.getId());
+
         Long opponent = messageRepository.findOpponentIdByChatRoomIdAndUserId(command.roomId(), user.getId());
 
-        return GetPostIdAndMessageListResponse.of(postId, opponent, messageList);
+        return GetPostIdAndMessageListResponse.of(postId, opponent, messageList, hasMore);
     }
 
 
@@ -358,41 +385,15 @@ public class CommunityServiceImpl implements CommunityService {
                 Sort.by(Sort.Direction.DESC, "createdAt")
         );
 
-        // 2. 데이터베이스에서 게시글 목록을 가져옴 (필터링은 DB에서 처리할 수도 있음)
-        Page<Post> postPage = postRepository.findByType(BoardType.valueOf(boardType), sortedPageable);
+        // 2. 삭제되지 않은 게시글만 작성자와 함께 조회 (삭제 필터링은 DB에서 처리)
+        Page<Post> postPage = postRepository.findActivePageByType(BoardType.valueOf(boardType), sortedPageable);
 
         // 현재 사용자의 언어 가져오기
         Language language = userUtil.getCurrentUser().getLanguage();
 
-        // 3. 스트림을 사용해 각 게시글을 GetPostResponse로 변환
-        List<GetPostResponse> postResponses = postPage.getContent().stream()
-                .filter(post -> post.getDeletedAt() == null)  // 삭제되지 않은 게시글만 필터링
-                .map(post -> {
-                    String content = getContentByLanguage(post, language, CONTENT);
-                    String title = getContentByLanguage(post, language, TITLE);
-
-                    // 댓글도 정렬해서 변환
-                    List<GetCommentResponse> commentResponses = convertToCommentResponse(
-                            post.getComments().stream()
-                                    .sorted(Comparator.comparing(Comment::getCreatedAt).reversed())  // 댓글을 최신순으로 정렬
-                                    .toList()
-                    );
+        // 3. 페이지 단위로 본문/댓글을 일괄 조회해 GetPostResponse로 변환
+        List<GetPostResponse> postResponses = convertToPostResponses(postPage.getContent(), language);
 
-                    // 4. S3에서 프로필 이미지를 가져오는 부분은 캐싱하거나 비동기 처리 고려 가능
-                    return new GetPostResponse(
-                            post.getId(),
-                            title,
-                            post.getAuthor().getNickname(),
-                            post.getAuthor().getId(),
-                            content,
-                            post.getCreatedAt().toString(),
-                            commentResponses,
-                            s3Util.getProfilePresignedUrlFromS3(post.getAuthor().getProfileImg())
-                    );
-                })
-                .toList();
-
-        // 5. PageImpl로 반환 (총 게시글 수 포함)
         return new PageImpl<>(postResponses, sortedPageable, postPage.getTotalElements());
     }
 
@@ -401,42 +402,24 @@ public class CommunityServiceImpl implements CommunityService {
         String keyword = command.keyword();
         log.info("Elasticsearch 검색 시작: keyword={}", keyword);
 
-        String[] terms = keyword.split("\\s+");
-        String userLanguage = userUtil.getCurrentUser().getLanguage().name();
-
-        Set<PostDocument> uniqueDocuments = Arrays.stream(terms)
-                .flatMap(term -> postElasticsearchRepository.findByTitleKoOrTitleZhOrTitleJaOrTitleEnOrAuthorOrContentKoOrContentZhOrContentJaOrContentEn(
-                        term, term, term, term, term, term, term, term, term
-                ).stream())
-                .collect(Collectors.toSet());
-
-        log.info("Elasticsearch 검색 결과: {}", uniqueDocuments);
-
-        List<GetPostResponse> postResponses = uniqueDocuments.stream()
-                .map(postDocument -> {
-                    String content = getContentByUserLanguage(postDocument, userLanguage, false);
-                    String title = getContentByUserLanguage(postDocument, userLanguage, true);
-
-                    Post post = postRepository.findById(postDocument.getPostId()).orElse(null);
-                    String createdAt = post != null ? post.getCreatedAt().toString() : "";
-
-                    User author = userRepository.findByNicknameAndIsDeletedFalse(postDocument.getAuthor()).orElse(null);
-
-                    return new GetPostResponse(
-                            postDocument.getPostId(),
-                            title,
-                            postDocument.getAuthor(),
-                            author != null ? author.getId() : null,
-                            content,
-                            createdAt,
-                            List.of(),
-                            s3Util.getProfilePresignedUrlFromS3(post.getAuthor().getProfileImg())
-                    );
-                })
-                .sorted(Comparator.comparing(GetPostResponse::createdAt).reversed())
+        Language language = userUtil.getCurrentUser().getLanguage();
+        SearchHits<PostDocument> searchHits = postElasticsearchRepository.searchByKeyword(keyword, language, pageable);
+
+        List<GetPostResponse> postResponses = searchHits.getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .map(postDocument -> new GetPostResponse(
+                        postDocument.getPostId(),
+                        getContentByUserLanguage(postDocument, language.name(), true),
+                        postDocument.getAuthor(),
+                        postDocument.getAuthorId(),
+                        getContentByUserLanguage(postDocument, language.name(), false),
+                        postDocument.getCreatedAt() != null ? postDocument.getCreatedAt().toString() : "",
+                        List.of(),
+                        s3Util.getProfilePresignedUrlFromS3(Optional.ofNullable(postDocument.getProfileImg()).orElse(S3_IMAGE.DEFAULT_URL))
+                ))
                 .toList();
 
-        return new PageImpl<>(postResponses, pageable, uniqueDocuments.size());
+        return new PageImpl<>(postResponses, pageable, searchHits.getTotalHits());
     }
 
     public Map<BoardType, List<GetPostResponse>> getMainPostList() {
@@ -520,39 +503,79 @@ public class CommunityServiceImpl implements CommunityService {
 
         Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        List<Post> posts = postRepository.findByTypeOrderByCreatedAtDesc(boardType, pageable);
+        List<Post> posts = postRepository.findActiveByType(boardType, pageable);
         log.info("{} 게시판에서 가져온 초기 게시글 개수: {}", boardType, posts.size());
 
+        return convertToPostResponses(posts, language);
+    }
+
+    /**
+     * 게시글 목록을 응답으로 변환한다.
+     * 게시글 수와 관계없이 본문, 댓글, 댓글 본문을 각각 한 번의 쿼리로 조회한다.
+     */
+    private List<GetPostResponse> convertToPostResponses(List<Post> posts, Language language) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+
+        Map<Long, Map<ContentByLanguage.ContentType, String>> postContents = groupContents(
+                contentByLanguageRepository.findPostContents(postIds, language));
+
+        List<Comment> comments = commentRepository.findAllByPostIdsWithAuthor(postIds);
+        Map<Long, List<Comment>> commentsByPost = comments.stream()
+                .collect(Collectors.groupingBy(comment -> comment.getBoard().getId(), LinkedHashMap::new, Collectors.toList()));
+
+        List<Long> commentIds = comments.stream()
+                .filter(comment -> comment.getDeletedAt() == null)
+                .map(Comment::getId)
+                .toList();
+        Map<Long, String> commentContents = commentIds.isEmpty()
+                ? Map.of()
+                : contentByLanguageRepository.findCommentContents(commentIds, language).stream()
+                        .collect(Collectors.toMap(LocalizedContent::ownerId, LocalizedContent::content, (first, second) -> first));
+
         return posts.stream()
-                .filter(post -> post.getDeletedAt() == null)
                 .map(post -> {
-                    String content = getContentByLanguage(post, language, CONTENT);
-                    String title = getContentByLanguage(post, language, TITLE);
+                    Map<ContentByLanguage.ContentType, String> contents = postContents.get(post.getId());
+                    if (contents == null || !contents.containsKey(TITLE) || !contents.containsKey(CONTENT)) {
+                        throw new PostNotFoundException();
+                    }
 
-                    List<GetCommentResponse> commentResponses = convertToCommentResponse(
-                            post.getComments().stream().sorted(Comparator.comparing(Comment::getCreatedAt).reversed()).toList()
-                    );
+                    List<GetCommentResponse> commentResponses = commentsByPost.getOrDefault(post.getId(), List.of()).stream()
+                            .map(comment -> toCommentResponse(comment, commentContents.get(comment.getId())))
+                            .toList();
 
                     return new GetPostResponse(
                             post.getId(),
-                            title,
+                            contents.get(TITLE),
                             post.getAuthor().getNickname(),
                             post.getAuthor().getId(),
-                            content,
+                            contents.get(CONTENT),
                             post.getCreatedAt().toString(),
                             commentResponses,
                             s3Util.getProfilePresignedUrlFromS3(post.getAuthor().getProfileImg())
                     );
                 })
-                .sorted(Comparator.comparing(GetPostResponse::createdAt).reversed())
                 .toList();
     }
 
+    private Map<Long, Map<ContentByLanguage.ContentType, String>> groupContents(List<LocalizedContent> contents) {
+        Map<Long, Map<ContentByLanguage.ContentType, String>> grouped = new HashMap<>();
+        for (LocalizedContent content : contents) {
+            grouped.computeIfAbsent(content.ownerId(), id -> new EnumMap<>(ContentByLanguage.ContentType.class))
+                    .putIfAbsent(content.contentType(), content.content());
+        }
+        return grouped;
+    }
+
     public String saveImageToS3(MultipartFile file) {
         return s3Util.uploadToS3(file, UUID.randomUUID().toString(), "community/");
     }
 
     public void validatePostCreateRequest(List<CreateContentByLanguageRequest> contents) {
+        contentModerator.validate(ModerationTarget.POST, contents);
         for (CreateContentByLanguageRequest request : contents) {
             String safeContent = Jsoup.clean(request.content(), Safelist.none());
             String plainText = escapeHtml(safeContent);
@@ -583,7 +606,7 @@ public class CommunityServiceImpl implements CommunityService {
     }
 
     private void validateUserOrAdmin(User author) {
-        if (!author.equals(userUtil.getCurrentUser()) &&
+        if (!author.getId().equals(userUtil.getCurrentUser().getId()) &&
                 SecurityUtil.getLoginMemberRole().orElse(MemberRole.USER) != MemberRole.ADMIN) {
             throw new NotAuthenticatedException();
         }
@@ -598,69 +621,35 @@ public class CommunityServiceImpl implements CommunityService {
 
     private List<GetCommentResponse> convertToCommentResponse(List<Comment> comments) {
         log.info("댓글확인 {}", comments);
+        Language language = userUtil.getCurrentUser().getLanguage();
         return comments.stream()
                 .sorted(Comparator.comparing(Comment::getCreatedAt).reversed())
-                .map(comment -> {
-                    if (comment.getDeletedAt() != null) {
-                        return new GetCommentResponse(
-                                null,
-                                "deleted",
-                                null,
-                                "삭제된 댓글입니다.",
-                                null,
-                                null
-                        );
-                    }
-
-                    String content = getContentByLanguage(comment.getContentByCountries(), userUtil.getCurrentUser().getLanguage());
-
-                    return new GetCommentResponse(
-                            comment.getId(),
-                            comment.getAuthor().getNickname(),
-                            comment.getAuthor().getId(),
-                            content,
-                            comment.getCreatedAt().toString(),
-                            s3Util.getProfilePresignedUrlFromS3(comment.getAuthor().getProfileImg())
-                    );
-                })
+                .map(comment -> comment.getDeletedAt() != null
+                        ? toCommentResponse(comment, null)
+                        : toCommentResponse(comment, getContentByLanguage(comment.getContentByCountries(), language)))
                 .toList();
     }
 
-    private void savePostDocument(Post post, List<CreateContentByLanguageRequest> contentByCountries) {
-        PostDocument postDocument = postElasticsearchRepository.findById(String.valueOf(post.getId()))
-                .orElse(PostDocument.builder()
-                        .postId(post.getId())
-                        .author(post.getAuthor().getNickname())
-                        .authorId(post.getAuthor().getId())
-                        .build());
-
-        contentByCountries.forEach(contentByLanguage -> {
-            if (contentByLanguage.language() == null) {
-                return;
-            }
-            String language = contentByLanguage.language().name();
-
-            switch (language) {
-                case "KOREAN" -> {
-                    postDocument.setTitleKo(contentByLanguage.title());
-                    postDocument.setContentKo(contentByLanguage.content());
-                }
-                case "CHINESE" -> {
-                    postDocument.setTitleZh(contentByLanguage.title());
-                    postDocument.setContentZh(contentByLanguage.content());
-                }
-                case "JAPANESE" -> {
-                    postDocument.setTitleJa(contentByLanguage.title());
-                    postDocument.setContentJa(contentByLanguage.content());
-                }
-                case "ENGLISH" -> {
-                    postDocument.setTitleEn(contentByLanguage.title());
-                    postDocument.setContentEn(contentByLanguage.content());
-                }
-            }
-        });
+    private GetCommentResponse toCommentResponse(Comment comment, String content) {
+        if (comment.getDeletedAt() != null) {
+            return new GetCommentResponse(
+                    null,
+                    "deleted",
+                    null,
+                    "삭제된 댓글입니다.",
+                    null,
+                    null
+            );
+        }
 
-        postElasticsearchRepository.save(postDocument);
+        return new GetCommentResponse(
+                comment.getId(),
+                comment.getAuthor().getNickname(),
+                comment.getAuthor().getId(),
+                content,
+                comment.getCreatedAt().toString(),
+                s3Util.getProfilePresignedUrlFromS3(comment.getAuthor().getProfileImg())
+        );
     }
 
     private List<ContentImage> extractContentImages(List<ContentImageRequest> imageRequests) {
@@ -760,11 +749,12 @@ public class CommunityServiceImpl implements CommunityService {
     }
 
     private void notifyByPostUser(User receiver, String messageContent, Notification.NotificationType type, Post post) {
-        if (!receiver.equals(userUtil.getCurrentUser())) {
+        User sender = userUtil.getCurrentUser();
+        if (!receiver.getId().equals(sender.getId())) {
             // 알림 생성 및 저장
             Notification notification = Notification.builder()
                     .receiver(receiver)
-                    .sender(userUtil.getCurrentUser())
+                    .sender(sender)
                     .messageContent(messageContent)
                     .Post(post)
                     .isRead(false)
@@ -772,27 +762,17 @@ public class CommunityServiceImpl implements CommunityService {
                     .type(type)
                     .build();
             notificationRepository.save(notification);
-
-            // Notification 객체 리스트로 알림 가져오기
-            List<Notification> combinedNotifications = getCombinedNotifications(receiver);
-
-            // Notification 객체를 NotificationResponse DTO로 변환
-            List<NotificationResponse> notificationDTOs = NotificationResponse.convertToNotificationDTOs(combinedNotifications, receiver.getLanguage());
-
-            // 사용자에게 DTO로 알림 전송
-            notificationUtil.sendNotificationToUser(notificationDTOs, receiver.getId());
-
-            // 로그 출력
-            log.info("알림 목록 전송: {}", notificationDTOs);
+            publishNotification(receiver, notification);
         }
     }
 
     private void notifyByMessageUser(User receiver, String messageContent, Notification.NotificationType type, Message message) {
-        if (!receiver.equals(userUtil.getCurrentUser())) {
+        User sender = userUtil.getCurrentUser();
+        if (!receiver.getId().equals(sender.getId())) {
             // 알림 생성 및 저장
             Notification notification = Notification.builder()
                     .receiver(receiver)
-                    .sender(userUtil.getCurrentUser())
+                    .sender(sender)
                     .messageContent(messageContent)
                     .Message(message)
                     .isRead(false)
@@ -800,26 +780,14 @@ public class CommunityServiceImpl implements CommunityService {
                     .type(type)
                     .build();
             notificationRepository.save(notification);
-
-            // Notification 객체 리스트로 알림 가져오기
-            List<Notification> combinedNotifications = getCombinedNotifications(receiver);
-
-            // Notification 객체를 NotificationResponse DTO로 변환
-            List<NotificationResponse> notificationDTOs = NotificationResponse.convertToNotificationDTOs(combinedNotifications, receiver.getLanguage());
-
-            // 사용자에게 DTO로 알림 전송
-            notificationUtil.sendNotificationToUser(notificationDTOs, receiver.getId());
-
-            // 로그 출력
-            log.info("알림 목록 전송: {}", notificationDTOs);
+            publishNotification(receiver, notification);
         }
     }
 
-
-    private List<Notification> getCombinedNotifications(User receiver) {
-        // 사용자의 읽지 않은 모든 알림을 가져옵니다.
-        List<Notification> unreadNotifications = notificationRepository.findByReceiverAndIsReadFalse(receiver);
-        return unreadNotifications;
+    // 새로 저장된 알림 한 건만 변환해 커밋 이후 전송되도록 이벤트 발행
+    private void publishNotification(User receiver, Notification notification) {
+        NotificationResponse response = NotificationResponse.convertToNotificationDTOs(List.of(notification), receiver.getLanguage()).get(0);
+        eventPublisher.publishEvent(new NotificationCreatedEvent(receiver.getId(), response));
     }
 
     private String getContentByLanguage(Post post, Language language, ContentByLanguage.ContentType contentType) {
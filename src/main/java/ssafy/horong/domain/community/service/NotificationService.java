@@ -1,8 +1,10 @@
 package ssafy.horong.domain.community.service;
 
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ssafy.horong.domain.community.entity.Notification;
 
 
 public interface NotificationService {
     void markAsRead(Long notificationId, Notification.NotificationType type);
+    SseEmitter subscribe();
 }
@@ -5,13 +5,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.elasticsearch.ResourceNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ssafy.horong.api.community.response.NotificationResponse;
 import ssafy.horong.common.util.NotificationUtil;
-import ssafy.horong.common.util.SecurityUtil;
 import ssafy.horong.common.util.UserUtil;
 import ssafy.horong.domain.community.entity.Notification;
 import ssafy.horong.domain.community.repository.NotificationRepository;
 import ssafy.horong.domain.member.entity.User;
-import ssafy.horong.domain.member.repository.UserRepository;
+
+import java.util.List;
 
 @Slf4j
 @Service
@@ -20,24 +22,27 @@ import ssafy.horong.domain.member.repository.UserRepository;
 public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
-    private final NotificationUtil notificationUtil; // NotificationUtil 추가
+    private final UserUtil userUtil;
+    private final NotificationUtil notificationUtil;
 
     @Transactional
+    @Override
     public void markAsRead(Long notificationId, Notification.NotificationType type) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new ResourceNotFoundException("알림이 존재하지 않습니다."));
         notification.markAsRead();
         notificationRepository.save(notification);
-
-        User user = getCurrentUser();
-        notificationUtil.sendMergedNotifications(user);
     }
 
-    private User getCurrentUser() {
-        Long userId = SecurityUtil.getLoginMemberId()
-                .orElseThrow(() -> new RuntimeException("로그인한 사용자가 존재하지 않습니다."));
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자가 존재하지 않습니다."));
+    @Override
+    public SseEmitter subscribe() {
+        User user = userUtil.getCurrentUser();
+        SseEmitter emitter = notificationUtil.createSseEmitter();
+
+        // 연결(재연결) 시점에 읽지 않은 알림만 새 emitter로 재전송
+        List<Notification> unreadNotifications = notificationRepository.findUnreadWithDetailsByReceiverId(user.getId());
+        notificationUtil.sendNotificationToEmitter(
+                NotificationResponse.convertToNotificationDTOs(unreadNotifications, user.getLanguage()), user.getId(), emitter);
+        return emitter;
     }
 }
@@ -0,0 +1,11 @@
+package ssafy.horong.domain.education.command;
+
+import java.time.LocalDate;
+
+public record GetEducationRecordHistoryCommand(
+        LocalDate from, // 이 날짜 이후 기록만 조회 (없으면 제한 없음)
+        LocalDate to,   // 이 날짜 이전 기록만 조회 (없으면 제한 없음)
+        Long beforeId,  // 이 id보다 오래된 기록 조회 (없으면 최신 기록부터)
+        int size
+) {
+}
@@ -2,14 +2,18 @@ package ssafy.horong.domain.education.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import ssafy.horong.common.util.ListToStringConverter;
+import ssafy.horong.common.util.PackedIntArrayConverter;
 import ssafy.horong.domain.member.entity.User;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "education_record")
+@Table(name = "education_record",
+        indexes = @Index(name = "idx_education_record_user_date", columnList = "user_id, date, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,14 +44,62 @@ public class EducationRecord {
     @Column(length = 255, nullable = false)
     private String audio; // S3 링크
 
+    @Convert(converter = PackedIntArrayConverter.class)
+    @Column(name = "gt_idx_packed")
+    private int[] gtIdx;
+
+    @Convert(converter = PackedIntArrayConverter.class)
+    @Column(name = "hyp_idx_packed")
+    private int[] hypIdx;
+
+    // JSON으로 저장하던 이전 형식. EducationRecordIndexMigration이 packed 컬럼으로 옮기고 비운다
     @Convert(converter = ListToStringConverter.class)
-    private List<Integer> gtIdx;
+    @Column(name = "gt_idx", insertable = false, updatable = false)
+    private List<Integer> legacyGtIdx;
 
     @Convert(converter = ListToStringConverter.class)
-    private List<Integer> hypIdx;
+    @Column(name = "hyp_idx", insertable = false, updatable = false)
+    private List<Integer> legacyHypIdx;
+
+    // 발음 채점은 저장 후 비동기로 진행된다. 기존 기록은 모두 채점이 끝난 상태
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    @ColumnDefault("'SCORED'")
+    @Builder.Default
+    private ScoringStatus status = ScoringStatus.SCORED;
+
+    private LocalDateTime requestedAt; // 채점 요청 시각
 
     @PrePersist
     public void prePersist() {
         this.date = LocalDate.now();
     }
+
+    public int[] getGtIdx() {
+        return gtIdx != null ? gtIdx : toArray(legacyGtIdx);
+    }
+
+    public int[] getHypIdx() {
+        return hypIdx != null ? hypIdx : toArray(legacyHypIdx);
+    }
+
+    public void applyScore(String text, float cer, int[] gtIdx, int[] hypIdx) {
+        this.text = text;
+        this.cer = cer;
+        this.gtIdx = gtIdx;
+        this.hypIdx = hypIdx;
+        this.status = ScoringStatus.SCORED;
+    }
+
+    public void markScoringFailed() {
+        this.status = ScoringStatus.FAILED;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values == null ? null : values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public enum ScoringStatus {
+        PENDING, SCORED, FAILED
+    }
 }
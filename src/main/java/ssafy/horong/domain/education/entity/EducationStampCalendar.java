@@ -0,0 +1,130 @@
+package ssafy.horong.domain.education.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import ssafy.horong.domain.member.entity.User;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 사용자별 스탬프 달력. 첫 스탬프 날짜(baseDay)부터 하루에 한 비트씩 기록한다. 행은 EducationStampCalendarRepository.insertIfAbsent로 만든다.
+ * 합계와 연속 일수는 스탬프를 찍을 때 함께 갱신하므로 조회 시 스탬프 행을 세지 않는다.
+ */
+@Entity
+@Table(name = "education_stamp_calendar")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EducationStampCalendar {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
+    private User user;
+
+    @Column(nullable = false)
+    private LocalDate baseDay; // 비트 0에 해당하는 날짜
+
+    @Column(nullable = false, length = 1024)
+    private byte[] days; // baseDay로부터 i일째에 스탬프가 있으면 비트 i가 1
+
+    @Column(nullable = false)
+    private int totalCount;
+
+    @Column(nullable = false)
+    private LocalDate lastStampDay;
+
+    @Column(nullable = false)
+    private int currentStreak; // lastStampDay로 끝나는 연속 일수
+
+    @Column(nullable = false)
+    private int longestStreak;
+
+    /**
+     * 스탬프를 찍는다. 이미 찍힌 날이면 false를 반환한다.
+     */
+    public boolean stamp(LocalDate day) {
+        BitSet bits = BitSet.valueOf(days);
+        if (day.isBefore(baseDay)) {
+            // 백필 등으로 첫 스탬프보다 이전 날짜가 들어오면 기준일을 앞당긴다
+            bits = shift(bits, (int) (baseDay.toEpochDay() - day.toEpochDay()));
+            baseDay = day;
+        }
+        int index = indexOf(day);
+        if (bits.get(index)) {
+            return false;
+        }
+        bits.set(index);
+        days = bits.toByteArray();
+        totalCount++;
+
+        if (totalCount == 1 || day.isAfter(lastStampDay)) {
+            currentStreak = totalCount > 1 && day.minusDays(1).equals(lastStampDay) ? currentStreak + 1 : 1;
+            lastStampDay = day;
+            longestStreak = Math.max(longestStreak, currentStreak);
+        } else {
+            // 지난 날짜가 채워지면 두 연속 구간이 이어질 수 있으므로 다시 계산한다
+            recomputeStreaks(bits);
+        }
+        return true;
+    }
+
+    public boolean isStamped(LocalDate day) {
+        // 오늘 찍었는지는 보통 마지막 스탬프 날짜만으로 판단된다
+        if (totalCount == 0 || day.isAfter(lastStampDay)) {
+            return false;
+        }
+        if (day.equals(lastStampDay)) {
+            return true;
+        }
+        int index = indexOf(day);
+        return index >= 0 && BitSet.valueOf(days).get(index);
+    }
+
+    /**
+     * today 기준 연속 일수. 오늘이나 어제 찍은 스탬프로 끝나지 않으면 끊긴 것으로 본다.
+     */
+    public int getStreakAsOf(LocalDate today) {
+        return lastStampDay.isBefore(today.minusDays(1)) ? 0 : currentStreak;
+    }
+
+    public List<LocalDate> getStampDates() {
+        BitSet bits = BitSet.valueOf(days);
+        List<LocalDate> dates = new ArrayList<>(totalCount);
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            dates.add(baseDay.plusDays(i));
+        }
+        return dates;
+    }
+
+    private int indexOf(LocalDate day) {
+        return (int) (day.toEpochDay() - baseDay.toEpochDay());
+    }
+
+    private void recomputeStreaks(BitSet bits) {
+        int run = 0;
+        int longest = 0;
+        int previous = -2;
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            run = (i == previous + 1) ? run + 1 : 1;
+            longest = Math.max(longest, run);
+            previous = i;
+        }
+        currentStreak = run;
+        longestStreak = longest;
+        lastStampDay = baseDay.plusDays(previous);
+    }
+
+    private static BitSet shift(BitSet bits, int offset) {
+        BitSet shifted = new BitSet(bits.length() + offset);
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            shifted.set(i + offset);
+        }
+        return shifted;
+    }
+}
@@ -0,0 +1,51 @@
+package ssafy.horong.domain.education.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import ssafy.horong.domain.member.entity.User;
+
+import java.time.LocalDateTime;
+
+// 사용자별 단어 학습 요약. 기록 저장/채점 시 UPDATE 한 번으로 누적한다 (EducationRecordWriter)
+@Entity
+@Table(name = "education_word_stat",
+        uniqueConstraints = @UniqueConstraint(name = "uk_education_word_stat_user_education", columnNames = {"user_id", "education_id"}),
+        indexes = @Index(name = "idx_education_word_stat_user_last_attempt", columnList = "user_id, last_attempt_at"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EducationWordStat {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "education_id", nullable = false)
+    private Education education;
+
+    @Column(nullable = false)
+    private int attemptCount; // 녹음 횟수
+
+    @Column(nullable = false)
+    private int scoredCount; // 채점이 끝난 횟수
+
+    @Column(nullable = false)
+    private double cerSum; // 평균 계산용 CER 합계
+
+    private Float bestCer; // 가장 낮은 CER, 채점 전이면 null
+
+    @Column(nullable = false)
+    private LocalDateTime lastAttemptAt;
+
+    @Column(nullable = false)
+    private Long lastRecordId;
+
+    public Float getAverageCer() {
+        return scoredCount == 0 ? null : (float) (cerSum / scoredCount);
+    }
+}
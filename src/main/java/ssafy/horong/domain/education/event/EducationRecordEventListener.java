@@ -0,0 +1,20 @@
+package ssafy.horong.domain.education.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ssafy.horong.domain.education.scoring.EducationScoringWorker;
+
+@Component
+@RequiredArgsConstructor
+public class EducationRecordEventListener {
+
+    private final EducationScoringWorker educationScoringWorker;
+
+    // 채점 작업이 커밋되지 않은 기록을 찾지 않도록 커밋 이후에만 넘긴다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleEducationRecordSubmitted(EducationRecordSubmittedEvent event) {
+        educationScoringWorker.submit(event);
+    }
+}
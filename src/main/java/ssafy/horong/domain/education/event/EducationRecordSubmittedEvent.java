@@ -0,0 +1,13 @@
+package ssafy.horong.domain.education.event;
+
+/**
+ * 채점 대기(PENDING) 학습 기록이 저장되었을 때 발행되는 이벤트.
+ * 커밋 이후 채점 작업으로 넘긴다. audio는 S3 객체 키.
+ */
+public record EducationRecordSubmittedEvent(
+        Long recordId,
+        Long userId,
+        String word,
+        String audio
+) {
+}
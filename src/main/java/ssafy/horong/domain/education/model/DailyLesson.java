@@ -0,0 +1,26 @@
+package ssafy.horong.domain.education.model;
+
+import ssafy.horong.api.education.response.EducationWordResponse;
+import ssafy.horong.api.education.response.TodayTranslatedWordResponse;
+import ssafy.horong.domain.member.common.Language;
+
+import java.util.List;
+
+/**
+ * (day, language)별 오늘의 단어 묶음. 모든 사용자에게 같으므로 한 번 만들어 공유한다.
+ */
+public record DailyLesson(
+        int day,
+        Language language,
+        List<EducationWordResponse> words,
+        List<TodayTranslatedWordResponse> translatedWords
+) {
+    public DailyLesson {
+        words = List.copyOf(words);
+        translatedWords = List.copyOf(translatedWords);
+    }
+
+    public static DailyLesson empty(int day, Language language) {
+        return new DailyLesson(day, language, List.of(), List.of());
+    }
+}
@@ -1,6 +1,10 @@
 package ssafy.horong.domain.education.repository;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ssafy.horong.domain.education.entity.EducationDay;
@@ -25,4 +29,20 @@ public interface EducationDayRepository extends JpaRepository<EducationDay, Long
     // 특정 사용자의 모든 EducationDay를 생성일자 내림차순으로 조회
     @Query("SELECT e FROM EducationDay e WHERE e.user = :user ORDER BY e.createdAt DESC")
     List<EducationDay> findAllByUserOrderByCreatedAtDesc(@Param("user") User user);
+
+    // 채점 결과가 병렬로 저장되어도 같은 날의 단어 추가와 스탬프 판정이 겹치지 않도록 가장 최근 EducationDay를 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM EducationDay e WHERE e.user.id = :userId ORDER BY e.day DESC")
+    List<EducationDay> findLatestByUserIdForUpdate(@Param("userId") Long userId, Pageable pageable);
+
+    // wordIds 컬렉션을 고치면 Hibernate가 목록 전체를 지우고 다시 넣으므로 단어 한 행만 넣는다
+    @Modifying
+    @Query(value = "INSERT INTO education_day_words (education_day_id, word_id) " +
+            "SELECT :dayId, :wordId FROM DUAL WHERE NOT EXISTS (" +
+            "SELECT 1 FROM education_day_words w WHERE w.education_day_id = :dayId AND w.word_id = :wordId)", nativeQuery = true)
+    int addWordIfAbsent(@Param("dayId") int dayId, @Param("wordId") int wordId);
+
+    // 트랜잭션 시작 시점의 스냅샷이 아니라 다른 워커가 커밋한 단어까지 세도록 잠금 읽기를 한다
+    @Query(value = "SELECT COUNT(*) FROM education_day_words WHERE education_day_id = :dayId LOCK IN SHARE MODE", nativeQuery = true)
+    int countWordsForShare(@Param("dayId") int dayId);
 }
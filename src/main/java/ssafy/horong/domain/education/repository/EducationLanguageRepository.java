@@ -1,6 +1,7 @@
 package ssafy.horong.domain.education.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ssafy.horong.domain.education.entity.EducationLanguage;
 import ssafy.horong.domain.member.common.Language;
 
@@ -8,5 +9,7 @@ import java.util.List;
 
 public interface EducationLanguageRepository extends JpaRepository<EducationLanguage, Long> {
     List<EducationLanguage> findByEducationIdAndLanguage(Long educationId, Language language);
-}
 
+    @Query("SELECT el FROM EducationLanguage el JOIN FETCH el.education ORDER BY el.id")
+    List<EducationLanguage> findAllWithEducation();
+}
@@ -1,10 +1,15 @@
 package ssafy.horong.domain.education.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ssafy.horong.domain.education.entity.EducationRecord;
+import ssafy.horong.domain.education.entity.EducationRecord.ScoringStatus;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,18 +20,58 @@ public interface EducationRecordRepository extends JpaRepository<EducationRecord
     @Query("SELECT er FROM EducationRecord er " +
             "JOIN FETCH er.education " +
             "JOIN FETCH er.user " +
-            "WHERE er.user.id = :userId")
-    List<EducationRecord> findByUserIdWithEducation(@Param("userId") Long userId);
+            "WHERE er.user.id = :userId " +
+            "AND er.status = :status")
+    List<EducationRecord> findByUserIdWithEducation(@Param("userId") Long userId, @Param("status") ScoringStatus status);
 
     @Query("SELECT er FROM EducationRecord er " +
             "JOIN FETCH er.education " +
             "WHERE er.education.id = :wordId " +
-            "AND er.user.id = :userId")
+            "AND er.user.id = :userId " +
+            "AND er.status = :status")
     List<EducationRecord> findByEducationIdAndUserIdWithEducation(
             @Param("wordId") Long wordId,
-            @Param("userId") Long userId
+            @Param("userId") Long userId,
+            @Param("status") ScoringStatus status
     );
 
+    // 기록 id 기준 keyset pagination (user_id, date, id 인덱스)
+    @Query("SELECT er FROM EducationRecord er " +
+            "JOIN FETCH er.education " +
+            "WHERE er.user.id = :userId " +
+            "AND (:from IS NULL OR er.date >= :from) " +
+            "AND (:to IS NULL OR er.date <= :to) " +
+            "AND (:beforeId IS NULL OR er.id < :beforeId) " +
+            "ORDER BY er.id DESC")
+    List<EducationRecord> findHistoryPage(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("UPDATE EducationRecord er SET er.status = :to " +
+            "WHERE er.status = :from " +
+            "AND er.requestedAt < :threshold")
+    int updateStatusRequestedBefore(
+            @Param("from") ScoringStatus from,
+            @Param("to") ScoringStatus to,
+            @Param("threshold") LocalDateTime threshold
+    );
+
+    // JSON으로 저장된 이전 기록을 id 순으로 조회 (EducationRecordIndexMigration)
+    @Query("SELECT er FROM EducationRecord er " +
+            "WHERE er.id > :afterId " +
+            "AND (er.legacyGtIdx IS NOT NULL OR er.legacyHypIdx IS NOT NULL) " +
+            "ORDER BY er.id")
+    List<EducationRecord> findLegacyIndexedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE education_record SET gt_idx = NULL, hyp_idx = NULL WHERE id IN (:ids)", nativeQuery = true)
+    int clearLegacyIndexes(@Param("ids") List<Long> ids);
+
 //    @Query("SELECT MAX(er.recordIndex) FROM EducationRecord er WHERE er.word.id = :educationId AND er.userId = :userId")
 //    Optional<Integer> findMaxRecordIndexByEducationIdAndUserId(@Param("educationId") Long educationId, @Param("userId") Long userId);
 }
@@ -8,5 +8,6 @@ import java.util.List;
 
 public interface EducationRepository extends JpaRepository<Education, Long> {
     List<Education> findByDay(int day);
+    List<Education> findAllByOrderByDayAscIdAsc();
     Education findByWord(String word);
 }
\ No newline at end of file
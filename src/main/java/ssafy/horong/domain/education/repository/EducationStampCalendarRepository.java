@@ -0,0 +1,36 @@
+package ssafy.horong.domain.education.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ssafy.horong.domain.education.entity.EducationStampCalendar;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface EducationStampCalendarRepository extends JpaRepository<EducationStampCalendar, Long> {
+    Optional<EducationStampCalendar> findByUserId(Long userId);
+
+    // 같은 사용자의 동시 기록 저장에도 비트와 합계가 유실되지 않도록 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM EducationStampCalendar c WHERE c.user.id = :userId")
+    Optional<EducationStampCalendar> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    // 첫 스탬프를 동시에 찍어도 행이 하나만 생기도록 user_id unique 키로 무시한다
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO education_stamp_calendar " +
+            "(user_id, base_day, days, total_count, last_stamp_day, current_streak, longest_streak) " +
+            "VALUES (:userId, :day, X'', 0, :day, 0, 0)", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("day") LocalDate day);
+
+    // 달력 도입 이전의 스탬프가 반영되지 않은 사용자 (스탬프 행은 하루에 하나)
+    @Query(value = "SELECT es.user_id FROM education_stamp es " +
+            "LEFT JOIN education_stamp_calendar c ON c.user_id = es.user_id " +
+            "GROUP BY es.user_id, c.total_count " +
+            "HAVING c.total_count IS NULL OR c.total_count < COUNT(DISTINCT DATE(es.created_at))", nativeQuery = true)
+    List<Long> findUserIdsToBackfill();
+}
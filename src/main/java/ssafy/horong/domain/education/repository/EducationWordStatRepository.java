@@ -0,0 +1,51 @@
+package ssafy.horong.domain.education.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ssafy.horong.domain.education.entity.EducationWordStat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EducationWordStatRepository extends JpaRepository<EducationWordStat, Long> {
+    @Query("SELECT s FROM EducationWordStat s JOIN FETCH s.education " +
+            "WHERE s.user.id = :userId " +
+            "ORDER BY s.lastAttemptAt DESC")
+    List<EducationWordStat> findByUserIdWithEducation(@Param("userId") Long userId);
+
+    // 동시 녹음에도 횟수가 유실되지 않도록 (user_id, education_id) unique 키로 upsert
+    @Modifying
+    @Query(value = "INSERT INTO education_word_stat " +
+            "(user_id, education_id, attempt_count, scored_count, cer_sum, last_attempt_at, last_record_id) " +
+            "VALUES (:userId, :educationId, 1, 0, 0, :attemptedAt, :recordId) " +
+            "ON DUPLICATE KEY UPDATE attempt_count = attempt_count + 1, " +
+            "last_attempt_at = :attemptedAt, last_record_id = :recordId", nativeQuery = true)
+    int recordAttempt(@Param("userId") Long userId, @Param("educationId") Long educationId,
+                      @Param("recordId") Long recordId, @Param("attemptedAt") LocalDateTime attemptedAt);
+
+    @Modifying
+    @Query("UPDATE EducationWordStat s SET s.scoredCount = s.scoredCount + 1, s.cerSum = s.cerSum + :cer, " +
+            "s.bestCer = CASE WHEN s.bestCer IS NULL OR s.bestCer > :cer THEN :cer ELSE s.bestCer END " +
+            "WHERE s.user.id = :userId AND s.education.id = :educationId")
+    int recordScore(@Param("userId") Long userId, @Param("educationId") Long educationId, @Param("cer") float cer);
+
+    // 학습 기록 테이블 전체로 요약을 다시 계산해 덮어쓴다. 요약 도입 이후 recordAttempt로 먼저 생긴 행도
+    // 이전 기록까지 합친 값이 되도록 INSERT ... SELECT ... ON DUPLICATE KEY UPDATE로 합친다
+    @Modifying
+    @Query(value = "INSERT INTO education_word_stat " +
+            "(user_id, education_id, attempt_count, scored_count, cer_sum, best_cer, last_attempt_at, last_record_id) " +
+            "SELECT * FROM (SELECT r.user_id, r.education_id, COUNT(*) AS attempt_count, " +
+            "SUM(CASE WHEN r.status = 'SCORED' THEN 1 ELSE 0 END) AS scored_count, " +
+            "COALESCE(SUM(CASE WHEN r.status = 'SCORED' THEN r.cer END), 0) AS cer_sum, " +
+            "MIN(CASE WHEN r.status = 'SCORED' THEN r.cer END) AS best_cer, " +
+            "COALESCE(MAX(r.requested_at), TIMESTAMP(MAX(r.date))) AS last_attempt_at, MAX(r.id) AS last_record_id " +
+            "FROM education_record r " +
+            "GROUP BY r.user_id, r.education_id) agg " +
+            "ON DUPLICATE KEY UPDATE attempt_count = agg.attempt_count, scored_count = agg.scored_count, " +
+            "cer_sum = agg.cer_sum, best_cer = agg.best_cer, " +
+            "last_attempt_at = GREATEST(education_word_stat.last_attempt_at, agg.last_attempt_at), " +
+            "last_record_id = GREATEST(education_word_stat.last_record_id, agg.last_record_id)", nativeQuery = true)
+    int backfill();
+}
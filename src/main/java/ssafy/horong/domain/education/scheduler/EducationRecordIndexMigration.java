@@ -0,0 +1,41 @@
+package ssafy.horong.domain.education.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import ssafy.horong.common.util.StartupTaskGuard;
+import ssafy.horong.domain.education.service.EducationRecordWriter;
+
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.EDUCATION_RECORD_INDEX_MIGRATION;
+
+/**
+ * JSON으로 저장된 gtIdx/hypIdx를 packed 컬럼으로 옮긴다. 배치마다 짧은 트랜잭션으로 나눠 처리한다.
+ * gt_idx/hyp_idx IS NOT NULL 조건에는 인덱스가 없어 끝난 뒤에도 돌리면 매번 전체를 훑으므로 {@link StartupTaskGuard}로 한 번만 돌린다.
+ * 옮기기 전 기록이나 이전 버전 서버가 저장한 기록도 EducationRecord가 JSON 컬럼을 읽어 주므로 조회에는 문제가 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EducationRecordIndexMigration implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final EducationRecordWriter educationRecordWriter;
+    private final StartupTaskGuard startupTaskGuard;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        startupTaskGuard.runOnce(EDUCATION_RECORD_INDEX_MIGRATION, "학습 기록 인덱스 변환", () -> {
+            long startedAt = System.currentTimeMillis();
+            int batches = 0;
+            Long afterId = 0L;
+            // 실패하면 다음 기동 때 처음부터 다시 훑지만, 이미 옮긴 기록은 조건에서 빠진다
+            while ((afterId = educationRecordWriter.migrateLegacyIndexes(afterId, BATCH_SIZE)) != null) {
+                batches++;
+            }
+            log.info("학습 기록 인덱스 변환 완료: {}배치, {}ms", batches, System.currentTimeMillis() - startedAt);
+        });
+    }
+}
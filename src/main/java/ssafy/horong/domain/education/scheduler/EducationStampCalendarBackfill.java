@@ -0,0 +1,46 @@
+package ssafy.horong.domain.education.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import ssafy.horong.domain.education.repository.EducationStampCalendarRepository;
+import ssafy.horong.domain.education.service.EducationStampWriter;
+
+import java.util.List;
+
+/**
+ * 달력 도입 이전의 스탬프 행을 사용자별 달력으로 옮긴다. 사용자마다 짧은 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EducationStampCalendarBackfill implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final EducationStampCalendarRepository educationStampCalendarRepository;
+    private final EducationStampWriter educationStampWriter;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        List<Long> userIds;
+        try {
+            userIds = educationStampCalendarRepository.findUserIdsToBackfill();
+        } catch (Exception e) {
+            log.error("스탬프 달력 채울 사용자 조회 실패", e);
+            return;
+        }
+        int stamps = 0;
+        for (Long userId : userIds) {
+            try {
+                stamps += educationStampWriter.backfill(userId);
+            } catch (Exception e) {
+                // 다음 기동 때 다시 시도한다
+                log.error("스탬프 달력 채움 실패: userId={}", userId, e);
+            }
+        }
+        if (stamps > 0) {
+            log.info("스탬프 달력 채움: 사용자 {}명, 스탬프 {}개", userIds.size(), stamps);
+        }
+    }
+}
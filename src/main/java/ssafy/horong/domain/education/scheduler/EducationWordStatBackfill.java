@@ -0,0 +1,33 @@
+package ssafy.horong.domain.education.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import ssafy.horong.common.util.StartupTaskGuard;
+import ssafy.horong.domain.education.service.EducationRecordWriter;
+
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.EDUCATION_WORD_STAT_BACKFILL;
+
+/**
+ * 요약 테이블 도입 이전의 기록을 단어별 학습 요약에 합친다.
+ * 학습 기록 전체를 GROUP BY하므로 {@link StartupTaskGuard}로 한 노드에서 한 번만 돌린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EducationWordStatBackfill implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final EducationRecordWriter educationRecordWriter;
+    private final StartupTaskGuard startupTaskGuard;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        startupTaskGuard.runOnce(EDUCATION_WORD_STAT_BACKFILL, "단어별 학습 요약 채움", () -> {
+            long startedAt = System.currentTimeMillis();
+            int affected = educationRecordWriter.backfillWordStats();
+            log.info("단어별 학습 요약 채움: {}행, {}ms", affected, System.currentTimeMillis() - startedAt);
+        });
+    }
+}
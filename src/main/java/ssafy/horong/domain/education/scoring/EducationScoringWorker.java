@@ -0,0 +1,218 @@
+package ssafy.horong.domain.education.scoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ssafy.horong.api.community.response.NotificationResponse;
+import ssafy.horong.api.education.response.SaveEducationResponseFromData;
+import ssafy.horong.common.data.client.DataServerClient;
+import ssafy.horong.common.exception.data.DataNotFoundException;
+import ssafy.horong.common.properties.EducationScoringProperties;
+import ssafy.horong.common.util.S3Util;
+import ssafy.horong.domain.education.event.EducationRecordSubmittedEvent;
+import ssafy.horong.domain.education.service.EducationRecordWriter;
+import ssafy.horong.domain.redis.NotificationRedisPublisher;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static ssafy.horong.common.data.client.DataServerEndpoint.EDUCATION_SCORE;
+
+/**
+ * 발음 채점 작업자. 채점 대기 기록을 노드별 대기열에 넣고, workers개의 스레드가 꺼내 데이터 서버 채점을 호출한다.
+ * 따라서 노드당 동시 채점 호출 수는 workers를 넘지 않는다.
+ * <p>
+ * 채점을 기다리는 동안에는 DB 커넥션을 잡지 않는다. 대기열이 가득 차면 바로 실패로 기록하고,
+ * 대기열에서 maxQueueWait보다 오래 기다린 기록은 채점하지 않고 실패로 기록한다(사용자는 이미 다시 녹음했을 가능성이 높다).
+ * 결과는 사용자의 SSE 연결로 알리고, 조회 API로도 확인할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EducationScoringWorker {
+
+    private record ScoringJob(EducationRecordSubmittedEvent event, long enqueuedAt) {
+    }
+
+    private static final String SCORED_TYPE = "EDUCATION_SCORED";
+    private static final String FAILED_TYPE = "EDUCATION_SCORING_FAILED";
+    private static final long PENDING_SWEEP_INTERVAL_MILLIS = 60_000L;
+
+    private final DataServerClient dataServerClient;
+    private final EducationRecordWriter educationRecordWriter;
+    private final S3Util s3Util;
+    private final NotificationRedisPublisher notificationRedisPublisher;
+    private final EducationScoringProperties educationScoringProperties;
+    private final MeterRegistry meterRegistry;
+
+    private BlockingQueue<ScoringJob> queue;
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean running = true;
+
+    private Counter scoredCounter;
+    private Counter failedCounter;
+    private Counter rejectedCounter;
+    private Counter expiredCounter;
+    private Timer queueWaitTimer;
+    private Timer turnaroundTimer;
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(educationScoringProperties.queueCapacity());
+        registerMetrics();
+        for (int i = 1; i <= educationScoringProperties.workers(); i++) {
+            Thread thread = new Thread(this::runWorker, "education-scoring-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            workerThreads.add(thread);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 대기 중인 기록은 PENDING으로 남고 pendingTimeout 후 실패로 정리된다
+        running = false;
+        workerThreads.forEach(Thread::interrupt);
+    }
+
+    public void submit(EducationRecordSubmittedEvent event) {
+        if (!queue.offer(new ScoringJob(event, System.nanoTime()))) {
+            rejectedCounter.increment();
+            log.warn("채점 대기열이 가득 차 채점하지 못함: recordId={}", event.recordId());
+            fail(event);
+        }
+    }
+
+    @Scheduled(fixedDelay = PENDING_SWEEP_INTERVAL_MILLIS)
+    public void failAbandonedRecords() {
+        int failed = educationRecordWriter.failPendingRequestedBefore(
+                LocalDateTime.now().minus(educationScoringProperties.pendingTimeout()));
+        if (failed > 0) {
+            log.warn("채점 결과 없이 남은 기록을 실패로 변경: {}건", failed);
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            ScoringJob job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                process(job);
+            } catch (Throwable t) {
+                // 예외가 빠져나가면 워커 스레드가 조용히 죽으므로, 이 기록만 실패로 남기고 다음 작업을 계속한다
+                log.error("채점 워커 처리 중 오류: recordId={}", job.event().recordId(), t);
+                failedCounter.increment();
+                try {
+                    fail(job.event());
+                } catch (Throwable failure) {
+                    log.error("채점 실패 처리 중 오류: recordId={}", job.event().recordId(), failure);
+                }
+            }
+        }
+    }
+
+    private void process(ScoringJob job) {
+        long waitedNanos = System.nanoTime() - job.enqueuedAt();
+        queueWaitTimer.record(waitedNanos, TimeUnit.NANOSECONDS);
+        if (waitedNanos > educationScoringProperties.maxQueueWait().toNanos()) {
+            expiredCounter.increment();
+            log.warn("채점 대기 시간 초과로 채점하지 않음: recordId={}, {}ms",
+                    job.event().recordId(), TimeUnit.NANOSECONDS.toMillis(waitedNanos));
+            fail(job.event());
+            return;
+        }
+        inFlight.incrementAndGet();
+        try {
+            score(job);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void score(ScoringJob job) {
+        EducationRecordSubmittedEvent event = job.event();
+        try {
+            URI audio = s3Util.getS3UrlFromS3(event.audio());
+            SaveEducationResponseFromData response = dataServerClient.post(EDUCATION_SCORE, Map.of(
+                            "word", event.word(),
+                            "s3_url", audio
+                    ), SaveEducationResponseFromData.class)
+                    .blockOptional()
+                    .orElseThrow(DataNotFoundException::new);
+            log.info("채점 결과: recordId={}, {}", event.recordId(), response);
+
+            educationRecordWriter.saveScore(event.recordId(), response);
+            scoredCounter.increment();
+            turnaroundTimer.record(System.nanoTime() - job.enqueuedAt(), TimeUnit.NANOSECONDS);
+            notifyResult(event, true);
+        } catch (Exception e) {
+            log.error("발음 채점 실패: recordId={}", event.recordId(), e);
+            failedCounter.increment();
+            fail(event);
+        }
+    }
+
+    private void fail(EducationRecordSubmittedEvent event) {
+        try {
+            educationRecordWriter.markFailed(event.recordId());
+        } catch (Exception e) {
+            log.error("채점 실패 기록 저장 실패: recordId={}", event.recordId(), e);
+        }
+        notifyResult(event, false);
+    }
+
+    private void notifyResult(EducationRecordSubmittedEvent job, boolean scored) {
+        notificationRedisPublisher.publish(job.userId(), new NotificationResponse(
+                job.recordId(),
+                scored ? SCORED_TYPE : FAILED_TYPE,
+                scored ? "발음 평가가 완료되었습니다." : "발음 평가에 실패했습니다. 다시 녹음해주세요.",
+                null,
+                null,
+                null,
+                null,
+                LocalDateTime.now()
+        ));
+    }
+
+    private void registerMetrics() {
+        Gauge.builder("education.scoring.queue.depth", this, worker -> worker.queue.size())
+                .description("채점을 기다리는 기록 수")
+                .register(meterRegistry);
+        Gauge.builder("education.scoring.active", inFlight, AtomicInteger::get)
+                .description("채점 중인 기록 수")
+                .register(meterRegistry);
+        scoredCounter = meterRegistry.counter("education.scoring.completed", "result", "scored");
+        failedCounter = meterRegistry.counter("education.scoring.completed", "result", "failed");
+        rejectedCounter = meterRegistry.counter("education.scoring.completed", "result", "rejected");
+        expiredCounter = meterRegistry.counter("education.scoring.completed", "result", "expired");
+        // 채점기 자체의 지연은 data.server.requests{endpoint=education_score}로 본다
+        queueWaitTimer = Timer.builder("education.scoring.queue.wait")
+                .description("채점 대기열에서 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        turnaroundTimer = Timer.builder("education.scoring.turnaround")
+                .description("채점 요청부터 결과 저장까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
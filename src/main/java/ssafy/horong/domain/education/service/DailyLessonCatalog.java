@@ -0,0 +1,177 @@
+package ssafy.horong.domain.education.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ssafy.horong.api.education.response.EducationWordResponse;
+import ssafy.horong.api.education.response.TodayTranslatedWordResponse;
+import ssafy.horong.domain.education.entity.Education;
+import ssafy.horong.domain.education.entity.EducationLanguage;
+import ssafy.horong.domain.education.model.DailyLesson;
+import ssafy.horong.domain.education.repository.EducationLanguageRepository;
+import ssafy.horong.domain.education.repository.EducationRepository;
+import ssafy.horong.domain.member.common.Language;
+
+import java.util.*;
+
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.EDUCATION_CONTENT_VERSION;
+
+/**
+ * 오늘의 단어 묶음 카탈로그. 학습 단어와 번역 전체를 두 번의 쿼리로 읽어 (day, language)별 묶음으로 만들어 둔다.
+ * 조회 시에는 DB를 거치지 않고, 사용자별로 다른 완료 여부만 호출하는 쪽에서 합친다.
+ * <p>
+ * 학습 단어는 DB에 직접 적재하므로, 적재 후 {@link #markChanged()}로 버전을 올리면 모든 노드가 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyLessonCatalog {
+
+    private final EducationRepository educationRepository;
+    private final EducationLanguageRepository educationLanguageRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Map<Integer, Map<Language, DailyLesson>> lessons;
+    private volatile String loadedVersion;
+    private Counter reloadCounter;
+
+    @PostConstruct
+    public void init() {
+        reloadCounter = meterRegistry.counter("education.lesson.reloads");
+        meterRegistry.gauge("education.lesson.days", this, catalog -> catalog.lessons == null ? 0 : catalog.lessons.size());
+        try {
+            reload();
+        } catch (Exception e) {
+            // 첫 조회 때 다시 읽는다
+            log.error("오늘의 단어 묶음 로드 실패", e);
+        }
+    }
+
+    public DailyLesson get(int day, Language language) {
+        Map<Integer, Map<Language, DailyLesson>> current = lessons;
+        if (current == null) {
+            reload();
+            current = lessons;
+        }
+        Map<Language, DailyLesson> byLanguage = current.get(day);
+        if (byLanguage == null) {
+            return DailyLesson.empty(day, language);
+        }
+        return byLanguage.getOrDefault(language, DailyLesson.empty(day, language));
+    }
+
+    /**
+     * 다른 노드에서 학습 단어가 바뀌었는지 버전 키만 확인한다.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void reloadIfChanged() {
+        try {
+            String version = redisTemplate.opsForValue().get(EDUCATION_CONTENT_VERSION);
+            if (!Objects.equals(version, loadedVersion)) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("학습 단어 버전 확인 실패, 기존 묶음 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 학습 단어나 번역을 변경한 뒤 호출한다. 버전을 올려 모든 노드가 다시 읽도록 하고 이 노드는 즉시 다시 읽는다.
+     */
+    public void markChanged() {
+        redisTemplate.opsForValue().increment(EDUCATION_CONTENT_VERSION);
+        reload();
+    }
+
+    public synchronized void reload() {
+        long startedAt = System.currentTimeMillis();
+        String version = null;
+        try {
+            version = redisTemplate.opsForValue().get(EDUCATION_CONTENT_VERSION);
+        } catch (Exception e) {
+            // 버전을 모르면 다음 확인 때 다시 읽는다
+            log.warn("학습 단어 버전 조회 실패: {}", e.getMessage());
+        }
+
+        List<Education> educations = educationRepository.findAllByOrderByDayAscIdAsc();
+        Map<Long, List<EducationLanguage>> translationsByEducation = new HashMap<>();
+        for (EducationLanguage translation : educationLanguageRepository.findAllWithEducation()) {
+            translationsByEducation
+                    .computeIfAbsent(translation.getEducation().getId(), id -> new ArrayList<>())
+                    .add(translation);
+        }
+
+        Map<Integer, List<Education>> educationsByDay = new LinkedHashMap<>();
+        for (Education education : educations) {
+            educationsByDay.computeIfAbsent(education.getDay(), day -> new ArrayList<>()).add(education);
+        }
+
+        Map<Integer, Map<Language, DailyLesson>> loaded = new HashMap<>();
+        educationsByDay.forEach((day, dayEducations) -> {
+            List<EducationWordResponse> words = dayEducations.stream()
+                    .map(EducationWordResponse::from)
+                    .toList();
+            Map<Language, DailyLesson> byLanguage = new EnumMap<>(Language.class);
+            for (Language language : Language.values()) {
+                byLanguage.put(language, new DailyLesson(day, language, words,
+                        translate(dayEducations, language, translationsByEducation)));
+            }
+            loaded.put(day, Collections.unmodifiableMap(byLanguage));
+        });
+
+        lessons = Collections.unmodifiableMap(loaded);
+        loadedVersion = version;
+        reloadCounter.increment();
+        log.info("오늘의 단어 묶음 로드: {}일, 단어 {}개, version={}, {}ms",
+                loaded.size(), educations.size(), version, System.currentTimeMillis() - startedAt);
+    }
+
+    private static List<TodayTranslatedWordResponse> translate(List<Education> educations, Language language,
+                                                               Map<Long, List<EducationLanguage>> translationsByEducation) {
+        List<TodayTranslatedWordResponse> translatedWords = new ArrayList<>();
+        for (Education education : educations) {
+            if (language == Language.KOREAN) {
+                // 한국어 사용자는 원래 단어와 정의를 그대로 사용
+                translatedWords.add(new TodayTranslatedWordResponse(
+                        education.getId(),
+                        education.getId(),
+                        language,
+                        education.getWord(),
+                        education.getDefinition(),
+                        education.getExample1(),
+                        education.getExample2(),
+                        education.getAudio(),
+                        education.isSlang(),
+                        education.getWord(),
+                        education.getPronunciation()
+                ));
+                continue;
+            }
+            for (EducationLanguage translation : translationsByEducation.getOrDefault(education.getId(), List.of())) {
+                if (translation.getLanguage() != language) {
+                    continue;
+                }
+                translatedWords.add(new TodayTranslatedWordResponse(
+                        translation.getId(),
+                        education.getId(),
+                        translation.getLanguage(),
+                        translation.getTransWord(),
+                        translation.getTransDefinition(),
+                        translation.getTransExample1(),
+                        translation.getTransExample2(),
+                        education.getAudio(),
+                        education.isSlang(),
+                        education.getWord(),
+                        education.getPronunciation()
+                ));
+            }
+        }
+        return translatedWords;
+    }
+}
@@ -0,0 +1,155 @@
+package ssafy.horong.domain.education.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ssafy.horong.api.education.response.SaveEducationResponseFromData;
+import ssafy.horong.domain.education.entity.Education;
+import ssafy.horong.domain.education.entity.EducationDay;
+import ssafy.horong.domain.education.entity.EducationRecord;
+import ssafy.horong.domain.education.entity.EducationRecord.ScoringStatus;
+import ssafy.horong.domain.education.event.EducationRecordSubmittedEvent;
+import ssafy.horong.domain.education.repository.EducationDayRepository;
+import ssafy.horong.domain.education.repository.EducationRecordRepository;
+import ssafy.horong.domain.education.repository.EducationWordStatRepository;
+import ssafy.horong.domain.member.entity.User;
+import ssafy.horong.domain.member.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 학습 기록 저장용 짧은 트랜잭션 모음.
+ * S3 업로드나 발음 채점처럼 오래 걸리는 작업은 이 트랜잭션 밖에서 하고, DB 작업만 여기서 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EducationRecordWriter {
+    private final EducationRecordRepository educationRecordRepository;
+    private final EducationDayRepository educationDayRepository;
+    private final EducationStampWriter educationStampWriter;
+    private final EducationWordStatRepository educationWordStatRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 채점 전 기록을 저장하고 단어별 학습 요약의 녹음 횟수를 반영한다. 채점은 커밋 이후 시작된다.
+     */
+    @Transactional
+    public EducationRecord savePending(User currentUser, Education education, String audio) {
+        EducationRecord educationRecord = educationRecordRepository.save(EducationRecord.builder()
+                .education(education)
+                .audio(audio)
+                .user(currentUser)
+                .text("")
+                .cer(0) // 채점 전
+                .status(ScoringStatus.PENDING)
+                .requestedAt(LocalDateTime.now())
+                .build());
+        educationWordStatRepository.recordAttempt(
+                currentUser.getId(), education.getId(), educationRecord.getId(), educationRecord.getRequestedAt());
+
+        eventPublisher.publishEvent(new EducationRecordSubmittedEvent(
+                educationRecord.getId(), currentUser.getId(), education.getWord(), audio));
+        return educationRecord;
+    }
+
+    /**
+     * 채점 결과를 저장하고 단어별 학습 요약, 오늘의 학습 단어와 스탬프를 반영한다.
+     * 실패한 녹음은 학습으로 치지 않도록 채점이 끝난 기록만 반영한다.
+     */
+    @Transactional
+    public void saveScore(Long recordId, SaveEducationResponseFromData response) {
+        educationRecordRepository.findById(recordId).ifPresent(educationRecord -> {
+            // 같은 기록이 두 번 채점되어도 요약에는 한 번만 반영한다
+            if (educationRecord.getStatus() != ScoringStatus.SCORED) {
+                educationWordStatRepository.recordScore(
+                        educationRecord.getUser().getId(), educationRecord.getEducation().getId(), response.cer());
+                completeWord(educationRecord.getUser(), educationRecord.getEducation());
+            }
+            educationRecord.applyScore(response.text(), response.cer(), response.gtIdx(), response.hypIdx());
+        });
+    }
+
+    @Transactional
+    public void markFailed(Long recordId) {
+        educationRecordRepository.findById(recordId).ifPresent(EducationRecord::markScoringFailed);
+    }
+
+    /**
+     * JSON으로 저장된 gtIdx/hypIdx를 packed 컬럼으로 옮기고 JSON 컬럼을 비운다.
+     * afterId 다음부터 최대 batchSize건을 처리하고 마지막으로 처리한 id를 반환한다. 남은 기록이 없으면 null.
+     */
+    @Transactional
+    public Long migrateLegacyIndexes(Long afterId, int batchSize) {
+        List<EducationRecord> records = educationRecordRepository.findLegacyIndexedAfter(afterId, PageRequest.of(0, batchSize));
+        if (records.isEmpty()) {
+            return null;
+        }
+        for (EducationRecord educationRecord : records) {
+            // getter가 이전 형식을 읽어 주므로 그대로 다시 쓰면 packed 컬럼에 저장된다
+            educationRecord.setGtIdx(educationRecord.getGtIdx());
+            educationRecord.setHypIdx(educationRecord.getHypIdx());
+        }
+        educationRecordRepository.flush();
+        educationRecordRepository.clearLegacyIndexes(records.stream().map(EducationRecord::getId).toList());
+        return records.get(records.size() - 1).getId();
+    }
+
+    /**
+     * 학습 기록 테이블로 단어별 요약을 다시 계산한다. 반영된 행 수(MySQL 기준 추가 1, 갱신 2)를 반환한다.
+     */
+    @Transactional
+    public int backfillWordStats() {
+        return educationWordStatRepository.backfill();
+    }
+
+    /**
+     * 노드 종료 등으로 채점 결과를 받지 못한 채 남은 기록을 실패로 바꾼다.
+     */
+    @Transactional
+    public int failPendingRequestedBefore(LocalDateTime threshold) {
+        return educationRecordRepository.updateStatusRequestedBefore(ScoringStatus.PENDING, ScoringStatus.FAILED, threshold);
+    }
+
+    private void completeWord(User currentUser, Education education) {
+        EducationDay educationDay = lockLatestDay(currentUser);
+        educationDayRepository.addWordIfAbsent(educationDay.getId(), education.getId().intValue());
+
+        if (educationDayRepository.countWordsForShare(educationDay.getId()) >= 5) {
+            // 오늘 날짜로 스탬프가 없다면 새로 생성
+            if (educationStampWriter.stamp(currentUser, LocalDate.now())) {
+                log.info("새로운 스탬프가 생성되었습니다.");
+            } else {
+                log.info("오늘 날짜에 이미 스탬프가 존재합니다.");
+            }
+        }
+    }
+
+    private EducationDay lockLatestDay(User currentUser) {
+        Optional<EducationDay> latest = findLatestDayForUpdate(currentUser.getId());
+        if (latest.isPresent()) {
+            return latest.get();
+        }
+        // 보통 가입 시 만들어지지만, 없으면 사용자 행을 잠가 두 워커가 각자 첫 EducationDay를 만들지 않게 한다
+        userRepository.findByIdForUpdate(currentUser.getId());
+        return findLatestDayForUpdate(currentUser.getId())
+                .orElseGet(() -> educationDayRepository.saveAndFlush(EducationDay.builder()
+                        .user(currentUser)
+                        .wordIds(new ArrayList<>())
+                        .day(1)
+                        .createdAt(LocalDateTime.now())
+                        .build()));
+    }
+
+    private Optional<EducationDay> findLatestDayForUpdate(Long userId) {
+        return educationDayRepository.findLatestByUserIdForUpdate(userId, PageRequest.of(0, 1)).stream().findFirst();
+    }
+}
@@ -1,16 +1,23 @@
 package ssafy.horong.domain.education.service;
 
 import ssafy.horong.api.education.response.*;
+import ssafy.horong.domain.education.command.GetEducationRecordHistoryCommand;
 import ssafy.horong.domain.education.command.SaveEduciatonRecordCommand;
 import ssafy.horong.domain.education.entity.EducationRecord;
 
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
 
 public interface EducationService {
     TodayWordsResponse getTodayWords();
     GetAllEducationRecordResponse getAllEducationRecord();
+    GetEducationRecordHistoryResponse getEducationRecordHistory(GetEducationRecordHistoryCommand command);
+    List<EducationWordStatResponse> getEducationWordStats();
+    URI getEducationRecordAudio(Long recordId);
     EducationRecordResponse saveEducationRecord(SaveEduciatonRecordCommand command);
+    EducationRecordResponse getEducationRecordResult(Long recordId);
     List<LocalDate> getStampDates();
+    StampSummaryResponse getStampSummary();
     GetEducationRecordByWordResponse getEducationRecordDetail(Long wordId);
 }
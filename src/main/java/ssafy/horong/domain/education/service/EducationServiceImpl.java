@@ -2,21 +2,21 @@ package ssafy.horong.domain.education.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 import ssafy.horong.api.education.response.*;
 import ssafy.horong.common.exception.data.DataNotFoundException;
-import ssafy.horong.common.properties.WebClientProperties;
 import ssafy.horong.common.util.S3Util;
 import ssafy.horong.common.util.SecurityUtil;
 import ssafy.horong.common.util.UserUtil;
+import ssafy.horong.domain.education.command.GetEducationRecordHistoryCommand;
 import ssafy.horong.domain.education.command.SaveEduciatonRecordCommand;
 import ssafy.horong.domain.education.entity.*;
+import ssafy.horong.domain.education.entity.EducationRecord.ScoringStatus;
+import ssafy.horong.domain.education.model.DailyLesson;
 import ssafy.horong.domain.education.repository.*;
-import ssafy.horong.domain.member.common.Language;
 import ssafy.horong.domain.member.entity.User;
 import ssafy.horong.domain.member.repository.UserRepository;
 
@@ -25,20 +25,23 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class EducationServiceImpl implements EducationService {
+    private static final int MAX_HISTORY_PAGE_SIZE = 50;
+
     private final EducationRepository educationRepository;
-    private final EducationLanguageRepository educationLanguageRepository;
+    private final DailyLessonCatalog dailyLessonCatalog;
     private final EducationRecordRepository educationRecordRepository;
     private final S3Util s3Util;
-    private final WebClient webClient;
-    private final WebClientProperties webClientProperties;
+    private final EducationRecordWriter educationRecordWriter;
     private final EducationDayRepository educationDayRepository;
-    private final EducationStampRepository educationStampRepository;
+    private final EducationStampCalendarRepository educationStampCalendarRepository;
+    private final EducationWordStatRepository educationWordStatRepository;
     private final UserUtil userUtil;
 
     @Transactional
@@ -67,91 +70,30 @@ public class EducationServiceImpl implements EducationService {
                     return educationDayRepository.save(newEducationDay);
                 });
 
-        // 오늘의 단어 리스트 조회
-        List<Education> todayWords = educationRepository.findByDay(educationDay.getDay());
-
-        // 단어 상세 정보 리스트 생성
-        List<TodayEducationDetailResponse> wordDetails = new ArrayList<>();
-        for (Education education : todayWords) {
-            boolean isCompleted = educationDay.getWordIds().contains(education.getId().intValue());
-            log.info("isCompleted: {}", isCompleted);
-            wordDetails.add(new TodayEducationDetailResponse(education, isCompleted));
-        }
+        // 단어와 번역은 모든 사용자에게 같으므로 캐시된 묶음을 쓰고, 완료 여부만 사용자별로 합친다
+        DailyLesson lesson = dailyLessonCatalog.get(educationDay.getDay(), currentUser.getLanguage());
+        Set<Integer> completedWordIds = new HashSet<>(educationDay.getWordIds());
 
-        // 번역된 단어 리스트 생성
-        List<TodayTranslatedWordResponse> translatedWords = new ArrayList<>();
-
-        if (currentUser.getLanguage() == Language.KOREAN) {
-            for (Education education : todayWords) {
-                log.info("education: {}", education);
-
-                // Education 엔티티의 데이터를 사용하여 TodayTranslatedWordResponse로 변환
-                TodayTranslatedWordResponse response = new TodayTranslatedWordResponse(
-                        education.getId(),
-                        education.getId(),  // 연관된 Education의 ID
-                        currentUser.getLanguage(),
-                        education.getWord(),  // 원래 단어 그대로 사용
-                        education.getDefinition(),  // 정의 그대로 사용
-                        education.getExample1(),  // 예시 1 그대로 사용
-                        education.getExample2(), // 예시 2 그대로 사용
-                        education.getAudio(),
-                        education.isSlang(),
-                        education.getWord(),
-                        education.getPronunciation()
-                );
-
-                // 변환된 TodayTranslatedWordResponse를 translatedWords에 추가
-                translatedWords.add(response);
-            }
-        } else {
-            for (Education education : todayWords) {
-                log.info("education: {}", education);
-
-                // Education ID와 사용자 언어에 맞는 번역된 단어 리스트 조회
-                List<EducationLanguage> words = educationLanguageRepository.findByEducationIdAndLanguage(education.getId(), currentUser.getLanguage());
-
-                // EducationLanguage 리스트를 TodayTranslatedWordResponse 리스트로 변환
-                List<TodayTranslatedWordResponse> responses = words.stream()
-                        .map(word -> new TodayTranslatedWordResponse(
-                                word.getId(),
-                                word.getEducation().getId(),  // 연관된 Education의 ID
-                                word.getLanguage(),
-                                word.getTransWord(),
-                                word.getTransDefinition(),
-                                word.getTransExample1(),
-                                word.getTransExample2(),
-                                education.getAudio(),
-                                education.isSlang(),
-                                education.getWord(),
-                                education.getPronunciation()
-                        ))
-                        .collect(Collectors.toList());
-
-                // 변환된 TodayTranslatedWordResponse 리스트를 translatedWords에 추가
-                translatedWords.addAll(responses);
-            }
-        }
+        List<TodayEducationDetailResponse> wordDetails = lesson.words().stream()
+                .map(word -> new TodayEducationDetailResponse(word, completedWordIds.contains(word.id().intValue())))
+                .toList();
 
-        // 최종 응답 객체 반환
-        return new TodayWordsResponse(wordDetails, translatedWords);
+        return new TodayWordsResponse(wordDetails, lesson.translatedWords());
     }
 
     public GetAllEducationRecordResponse getAllEducationRecord() {
         Long userId = SecurityUtil.getLoginMemberId().orElseThrow(null);
-        List<EducationRecord> educationRecords = educationRecordRepository.findByUserIdWithEducation(userId);
+        // 이전 응답 형식에는 채점 상태가 없으므로 채점이 끝난 기록만 보여준다. 채점 중/실패 기록은 /records/history에서 확인한다
+        List<EducationRecord> educationRecords = educationRecordRepository.findByUserIdWithEducation(userId, ScoringStatus.SCORED);
 
         // LocalDate와 word별로 그룹화
         Map<LocalDate, Map<String, List<EducationRecordResponse>>> groupedByDateAndWord = new HashMap<>();
+        // 기록 조회 시 함께 가져온 단어를 재사용
+        Map<String, Education> educationsByWord = new HashMap<>();
 
         for (EducationRecord record : educationRecords) {
-            EducationRecordResponse recordResponse = new EducationRecordResponse(
-                    record.getId(),
-                    record.getText(),
-                    record.getCer(),
-                    record.getGtIdx(),
-                    record.getHypIdx(),
-                    s3Util.getS3UrlFromS3(record.getAudio())
-            );
+            EducationRecordResponse recordResponse = EducationRecordResponse.of(record, s3Util.getS3UrlFromS3(record.getAudio()));
+            educationsByWord.putIfAbsent(record.getEducation().getWord(), record.getEducation());
 
             // 날짜별로 그룹화
             groupedByDateAndWord
@@ -166,7 +108,7 @@ public class EducationServiceImpl implements EducationService {
                     LocalDate date = dateEntry.getKey();
                     List<GetEducationRecordByWordResponse> wordResponses = dateEntry.getValue().entrySet().stream()
                             .map(wordEntry -> {
-                                Education education = educationRepository.findByWord(wordEntry.getKey());
+                                Education education = educationsByWord.get(wordEntry.getKey());
                                 return new GetEducationRecordByWordResponse(
                                         wordEntry.getKey(),
                                         education.getId(),
@@ -184,140 +126,99 @@ public class EducationServiceImpl implements EducationService {
         return new GetAllEducationRecordResponse(dayResponses);
     }
 
-    @Transactional
+    public GetEducationRecordHistoryResponse getEducationRecordHistory(GetEducationRecordHistoryCommand command) {
+        Long userId = userUtil.getCurrentUser().getId();
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        int size = Math.min(Math.max(command.size(), 1), MAX_HISTORY_PAGE_SIZE);
+        List<EducationRecord> records = educationRecordRepository.findHistoryPage(
+                userId, command.from(), command.to(), command.beforeId(), PageRequest.of(0, size + 1));
+
+        boolean hasMore = records.size() > size;
+        List<EducationRecordSummaryResponse> page = (hasMore ? records.subList(0, size) : records).stream()
+                .map(EducationRecordSummaryResponse::from)
+                .toList();
+        return new GetEducationRecordHistoryResponse(page, hasMore);
+    }
+
+    public List<EducationWordStatResponse> getEducationWordStats() {
+        Long userId = userUtil.getCurrentUser().getId();
+        return educationWordStatRepository.findByUserIdWithEducation(userId).stream()
+                .map(EducationWordStatResponse::from)
+                .toList();
+    }
+
+    // 기록 목록에는 녹음 파일 URL을 넣지 않고, 재생할 때 이 메서드로 받는다
+    public URI getEducationRecordAudio(Long recordId) {
+        Long userId = userUtil.getCurrentUser().getId();
+        EducationRecord educationRecord = educationRecordRepository.findById(recordId)
+                .filter(record -> record.getUser().getId().equals(userId))
+                .orElseThrow(DataNotFoundException::new);
+        return s3Util.getS3UrlFromS3(educationRecord.getAudio());
+    }
+
+    // S3 업로드와 발음 채점 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 저장만 짧은 트랜잭션으로 한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EducationRecordResponse saveEducationRecord(SaveEduciatonRecordCommand command) {
         Education education = educationRepository.findByWord(command.word());
-        List<Education> findAll = educationRepository.findAll();
-        log.info("교육 목록: {}", findAll);
         log.info("education: {}", education);
         log.info("command: {}", command);
 
-        Long userId = SecurityUtil.getLoginMemberId().orElseThrow(null);
+        User currentUser = userUtil.getCurrentUser();
         UUID recordIndex = UUID.randomUUID();
-        String location = s3Util.uploadToS3(command.audio(), command.word() + "/" + userId + "/" + recordIndex, "education/");
+        String location = s3Util.uploadToS3(command.audio(), command.word() + "/" + currentUser.getId() + "/" + recordIndex, "education/");
         log.info("location: {}", location);
-        log.info("word_id", education.getId());
-
-        EducationRecord educationRecord = EducationRecord.builder()
-                .education(education)
-                .audio(location)
-                .user(userUtil.getCurrentUser())
-                .cer(0) // 임시 값
-                .build();
-
-        String requestUrl = webClientProperties.url() + "/education";
-
-        log.info("s3 주소 {}", s3Util.getS3UrlFromS3(location));
-
-        URI uri = s3Util.getS3UrlFromS3(location);
-        log.info("uri: {}", uri);
-        // WebClient 호출, application/octet-stream으로 수신
-        SaveEducationResponseFromData response = webClient.post()
-                .uri(requestUrl)
-                .body(BodyInserters.fromValue(Map.of(
-                        "word", command.word(),
-                        "s3_url", uri
-                )))
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .doOnNext(errorBody -> log.error("Error response body: {}", errorBody))
-                                .flatMap(errorBody -> Mono.error(new DataNotFoundException()))
-                )
-                .bodyToMono(SaveEducationResponseFromData.class)
-                .blockOptional()
-                .orElseThrow(DataNotFoundException::new);
-
-        log.info("byteResponse: {}", response);
 
-        educationRecord.setText(response.text());
-        educationRecord.setCer(response.cer());
-        educationRecord.setGtIdx(response.gtIdx());
-        educationRecord.setHypIdx(response.hypIdx());
-        educationRecordRepository.save(educationRecord);
+        // 채점은 EducationScoringWorker가 커밋 이후 진행하고, 결과는 SSE 알림과 채점 결과 조회로 받는다
+        EducationRecord educationRecord = educationRecordWriter.savePending(currentUser, education, location);
 
-        // 기존의 EducationDay를 찾거나 오늘 날짜로 새로운 EducationDay 생성
-        User currentUser = userUtil.getCurrentUser();
-        LocalDateTime today = LocalDateTime.now();
-        EducationDay educationDay = educationDayRepository.findTopByUserAndCreatedAtBeforeTodayOrderByDayDesc(currentUser, today)
-                .orElseGet(() -> {
-                    // 오늘의 EducationDay가 없을 때 가장 최근의 day 값으로 새로 생성
-                    int recentDay = educationDayRepository.findTopByUserOrderByCreatedAtDesc(currentUser)
-                            .map(EducationDay::getDay)
-                            .orElse(0);  // 가장 최근의 값이 없으면 0으로 설정
-
-                    // day가 0인 경우 기본값 1로 설정, 그렇지 않으면 가장 최근 값에 1을 더함
-                    int newDayValue = (recentDay == 0) ? 1 : recentDay + 1;
-
-                    // 새로운 EducationDay 생성
-                    EducationDay newEducationDay = EducationDay.builder()
-                            .user(currentUser)
-                            .wordIds(new ArrayList<>())  // 초기 빈 단어 목록
-                            .day(newDayValue)
-                            .createdAt(LocalDateTime.now())
-                            .build();
-
-                    // 새로 생성한 객체를 저장하고 반환
-                    return educationDayRepository.save(newEducationDay);
-                });
-
-        // 오늘의 EducationDay에 단어 ID 추가
-        if (!educationDay.getWordIds().contains(education.getId().intValue())) {
-            educationDay.getWordIds().add(education.getId().intValue());
-        }
-
-        if (educationDay.getWordIds().size() >= 5) {
-            LocalDate todayDate = LocalDate.now();
-
-            // 오늘 날짜로 스탬프가 이미 존재하는지 확인
-            boolean stampExists = educationStampRepository.existsByUserIdAndCreatedAtDateOnly(userId, todayDate);
-            if (!stampExists) {
-                // 스탬프가 없다면 새로 생성
-                EducationStamp educationStamp = EducationStamp.builder()
-                        .user(userUtil.getCurrentUser())
-                        .build();
-
-                educationStampRepository.save(educationStamp);
-                log.info("새로운 스탬프가 생성되었습니다.");
-            } else {
-                log.info("오늘 날짜에 이미 스탬프가 존재합니다.");
-            }
-        }
+        return EducationRecordResponse.of(educationRecord, s3Util.getS3UrlFromS3(location));
+    }
 
-        // EducationRecordResponse 생성 및 반환
-        return new EducationRecordResponse(
-                educationRecord.getId(),
-                response.text(),
-                response.cer(),
-                response.gtIdx(),
-                response.hypIdx(),
-                uri
-        );
+    public EducationRecordResponse getEducationRecordResult(Long recordId) {
+        Long userId = userUtil.getCurrentUser().getId();
+        EducationRecord educationRecord = educationRecordRepository.findById(recordId)
+                .filter(record -> record.getUser().getId().equals(userId))
+                .orElseThrow(DataNotFoundException::new);
+        return EducationRecordResponse.of(educationRecord, s3Util.getS3UrlFromS3(educationRecord.getAudio()));
     }
 
     public List<LocalDate> getStampDates() {
         User currentUser = userUtil.getCurrentUser();
-        List<EducationStamp> stamps = educationStampRepository.findByUserId(currentUser.getId());
-        List<LocalDate> dates = stamps.stream()
-                .map(EducationStamp::getCreatedAt)
-                .map(LocalDateTime::toLocalDate)
-                .toList();
+        List<LocalDate> dates = educationStampCalendarRepository.findByUserId(currentUser.getId())
+                .map(EducationStampCalendar::getStampDates)
+                .orElse(List.of());
 
         // 리스트 길이가 10 이상인 경우 처리
         if (dates.size() >= 10) {
             int remainder = dates.size() % 10;
-            return dates.stream()
-                    .filter(date -> dates.indexOf(date) % 10 == remainder)
+            return IntStream.range(0, dates.size())
+                    .filter(index -> index % 10 == remainder)
+                    .mapToObj(dates::get)
                     .toList();
         }
 
         return dates;
     }
 
+    public StampSummaryResponse getStampSummary() {
+        User currentUser = userUtil.getCurrentUser();
+        LocalDate today = LocalDate.now();
+        return educationStampCalendarRepository.findByUserId(currentUser.getId())
+                .map(calendar -> new StampSummaryResponse(
+                        calendar.getTotalCount(),
+                        calendar.isStamped(today),
+                        calendar.getStreakAsOf(today),
+                        calendar.getLongestStreak()))
+                .orElseGet(() -> new StampSummaryResponse(0, false, 0, 0));
+    }
+
     public GetEducationRecordByWordResponse getEducationRecordDetail(Long wordId) {
         User user = userUtil.getCurrentUser();
-        List<EducationRecord> educationRecords = educationRecordRepository.findByEducationIdAndUserIdWithEducation(wordId, user.getId());
+        List<EducationRecord> educationRecords = educationRecordRepository.findByEducationIdAndUserIdWithEducation(wordId, user.getId(), ScoringStatus.SCORED);
+        if (educationRecords.isEmpty()) {
+            throw new DataNotFoundException();
+        }
 
         GetEducationRecordByWordResponse response = new GetEducationRecordByWordResponse(
                 educationRecords.get(0).getEducation().getWord(),
@@ -325,14 +226,7 @@ public class EducationServiceImpl implements EducationService {
                 educationRecords.get(0).getEducation().getPronunciation(),
                 educationRecords.get(0).getEducation().getDefinition(),
                 educationRecords.stream()
-                        .map(record -> new EducationRecordResponse(
-                                record.getId(),
-                                record.getText(),
-                                record.getCer(),
-                                record.getGtIdx(),
-                                record.getHypIdx(),
-                                s3Util.getS3UrlFromS3(record.getAudio())
-                        ))
+                        .map(record -> EducationRecordResponse.of(record, s3Util.getS3UrlFromS3(record.getAudio())))
                         .collect(Collectors.toList())
     );
         return response;
@@ -0,0 +1,65 @@
+package ssafy.horong.domain.education.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ssafy.horong.domain.education.entity.EducationStamp;
+import ssafy.horong.domain.education.entity.EducationStampCalendar;
+import ssafy.horong.domain.education.repository.EducationStampCalendarRepository;
+import ssafy.horong.domain.education.repository.EducationStampRepository;
+import ssafy.horong.domain.member.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스탬프 저장. 스탬프 행과 함께 사용자별 달력(EducationStampCalendar)을 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EducationStampWriter {
+    private final EducationStampRepository educationStampRepository;
+    private final EducationStampCalendarRepository educationStampCalendarRepository;
+
+    /**
+     * day에 스탬프를 찍는다. 이미 찍혀 있으면 아무것도 하지 않고 false를 반환한다.
+     */
+    @Transactional
+    public boolean stamp(User user, LocalDate day) {
+        if (!lockCalendar(user.getId(), day).stamp(day)) {
+            return false;
+        }
+        educationStampRepository.save(EducationStamp.builder()
+                .user(user)
+                .build());
+        return true;
+    }
+
+    /**
+     * 달력 도입 이전의 스탬프 행을 달력에 반영한다. 이미 반영된 날짜는 건너뛰므로 여러 번 실행해도 된다.
+     */
+    @Transactional
+    public int backfill(Long userId) {
+        List<LocalDateTime> stampedAt = educationStampRepository.findCreatedAtByUserId(userId);
+        if (stampedAt.isEmpty()) {
+            return 0;
+        }
+        EducationStampCalendar calendar = lockCalendar(userId, stampedAt.get(0).toLocalDate());
+        int added = 0;
+        for (LocalDateTime createdAt : stampedAt) {
+            if (calendar.stamp(createdAt.toLocalDate())) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    private EducationStampCalendar lockCalendar(Long userId, LocalDate firstDay) {
+        educationStampCalendarRepository.insertIfAbsent(userId, firstDay);
+        return educationStampCalendarRepository.findByUserIdForUpdate(userId)
+                .orElseThrow(() -> new IllegalStateException("스탬프 달력 생성 실패: userId=" + userId));
+    }
+}
@@ -8,17 +8,14 @@ import ssafy.horong.api.horongChat.request.HorongChatContentRequest;
 import ssafy.horong.api.horongChat.response.ChatContentResponse;
 import ssafy.horong.api.horongChat.response.ChatListResponse;
 import ssafy.horong.api.horongChat.response.ChatRoomResponse;
-import ssafy.horong.common.exception.User.MemberNotFoundException;
 import ssafy.horong.common.exception.horongChat.ChatroomNotAuthenticatedException;
-import ssafy.horong.common.exception.security.NotAuthenticatedException;
-import ssafy.horong.common.util.SecurityUtil;
+import ssafy.horong.common.util.UserUtil;
 import ssafy.horong.domain.horongChat.Repository.HorongChatRepository;
 import ssafy.horong.domain.horongChat.Repository.HorongChatRoomRepository;
 import ssafy.horong.domain.horongChat.command.SaveChatLogCommand;
 import ssafy.horong.domain.horongChat.entity.HorongChat;
 import ssafy.horong.domain.horongChat.entity.HorongChatRoom;
 import ssafy.horong.domain.member.entity.User;
-import ssafy.horong.domain.member.repository.UserRepository;
 
 import java.util.List;
 @Slf4j
@@ -27,16 +24,14 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class HorongChatServiceImpl implements HorongChatService {
     private final HorongChatRepository horongChatRepository;
-    private final UserRepository userRepository;
     private final HorongChatRoomRepository horongChatRoomRepository;
+    private final UserUtil userUtil;
 
     @Transactional
     public void saveChatLog(SaveChatLogCommand command) {
 
         // 현재 로그인한 사용자 찾기
-        User currentUser = SecurityUtil.getLoginMemberId()
-                .flatMap(userRepository::findById)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = userUtil.getCurrentUser();
 
         // 1. 새로운 채팅방 생성
         HorongChatRoom chatRoom = HorongChatRoom.builder()
@@ -59,7 +54,7 @@ public class HorongChatServiceImpl implements HorongChatService {
 
     public ChatListResponse getChatList() {
         // 현재 로그인한 사용자를 찾음
-        User currentUser = getCurrentLoggedInMember();
+        User currentUser = userUtil.getCurrentUser();
 
         // 1. 사용자가 속한 모든 채팅방 조회
         List<HorongChatRoom> chatRooms = horongChatRoomRepository.findByUser(currentUser);
@@ -87,7 +82,7 @@ public class HorongChatServiceImpl implements HorongChatService {
         HorongChatRoom chatRoom = horongChatRoomRepository.findById(roomId)
                 .orElseThrow();
 
-        if (chatRoom.getUser() != getCurrentLoggedInMember()) {
+        if (!chatRoom.getUser().getId().equals(userUtil.getCurrentUser().getId())) {
             throw new ChatroomNotAuthenticatedException();
         }
 
@@ -102,16 +97,4 @@ public class HorongChatServiceImpl implements HorongChatService {
 
         return new ChatRoomResponse(roomId, chatContentList);  // 응답 반환
     }
-
-    private User getCurrentLoggedInMember() {
-        Long userId = SecurityUtil.getLoginMemberId()
-                .orElseThrow(NotAuthenticatedException::new);
-        User user = userRepository.findById(userId)
-                .orElseThrow(MemberNotFoundException::new);
-
-        if (user.isDeleted()) {
-            throw new NotAuthenticatedException();
-        }
-        return user;
-    }
 }
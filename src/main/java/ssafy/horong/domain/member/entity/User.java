@@ -52,6 +52,7 @@ public class User {
     @Enumerated(EnumType.STRING)
     private MemberRole role;
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Post> boards;
 
@@ -1,6 +1,8 @@
 package ssafy.horong.domain.member.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,6 +23,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     """)
     Optional<User> findByUserLongId(Long userLongId);
 
+    // 사용자별로 하나만 있어야 하는 행을 처음 만들 때 동시 생성을 막는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT p
+        FROM User p
+        WHERE p.id = :id
+    """)
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+
     @Query("""
         SELECT p
         FROM User p
@@ -2,7 +2,6 @@ package ssafy.horong.domain.member.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,10 +15,12 @@ import ssafy.horong.common.exception.security.PasswordUsedException;
 import ssafy.horong.common.exception.token.TokenSaveFailedException;
 import ssafy.horong.common.util.JwtProcessor;
 import ssafy.horong.common.util.S3Util;
+import ssafy.horong.common.util.UserUtil;
 import ssafy.horong.common.util.SecurityUtil;
 import ssafy.horong.domain.education.entity.EducationDay;
+import ssafy.horong.domain.education.entity.EducationStampCalendar;
 import ssafy.horong.domain.education.repository.EducationDayRepository;
-import ssafy.horong.domain.education.repository.EducationStampRepository;
+import ssafy.horong.domain.education.repository.EducationStampCalendarRepository;
 import ssafy.horong.domain.member.command.MemberSignupCommand;
 import ssafy.horong.domain.member.command.PasswordUpdateCommand;
 import ssafy.horong.domain.member.command.UpdateProfileCommand;
@@ -28,13 +29,13 @@ import ssafy.horong.domain.member.common.PasswordHistory;
 import ssafy.horong.domain.member.entity.User;
 import ssafy.horong.domain.member.repository.PasswordHistoryRepository;
 import ssafy.horong.domain.member.repository.UserRepository;
+import ssafy.horong.domain.moderation.ForbiddenWordDictionary;
 import ssafy.horong.common.exception.User.*;
 
 import java.net.URL;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 @Slf4j
 @Service
@@ -46,11 +47,11 @@ public class UserServiceImpl implements UserService {
     private final JwtProcessor jwtProcessor;
     private final PasswordEncoder passwordEncoder;
     private final S3Util s3Util;
+    private final UserUtil userUtil;
     private final PasswordHistoryRepository passwordHistoryRepository;
-    private final RedisTemplate<String, String> redisTemplateslang;
-    private static final String FORBIDDEN_WORDS_KEY = "forbiddenWords";
+    private final ForbiddenWordDictionary forbiddenWordDictionary;
     private final EducationDayRepository educationDayRepository;
-    private final EducationStampRepository educationStampRepository;
+    private final EducationStampCalendarRepository educationStampCalendarRepository;
 
     @Override
     @Transactional
@@ -126,7 +127,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserDetailResponse getMemberDetail() {
         log.info("[UserService] 유저 정보 조회");
-        User currentUser = getCurrentLoggedInMember();
+        User currentUser = userUtil.getCurrentUser();
         String preSignedProfileImage = generatePreSignedUrl(currentUser.getProfileImg());
 
         return UserDetailResponse.of(
@@ -138,7 +139,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserProfileDetailResponse getMemberProfileDetail() {
         log.info("[UserService] 유저 상세 프로필 조회");
-        User currentUser = getCurrentLoggedInMember();
+        User currentUser = userUtil.getCurrentUser();
         String preSignedProfileImage = generatePreSignedUrl(currentUser.getProfileImg());
 
         return UserProfileDetailResponse.of(
@@ -153,7 +154,7 @@ public class UserServiceImpl implements UserService {
         log.info("[UserService] 유저 정보 변경");
 
         validateUpdateProfileCommand(command);
-        User currentUser = getCurrentLoggedInMember();
+        User currentUser = userUtil.getCurrentUserForUpdate();
 
         String updatedNickname = getUpdatedField(command.nickname(), currentUser.getNickname());
 
@@ -170,7 +171,7 @@ public class UserServiceImpl implements UserService {
     @Transactional
     public String deleteMember() {
         log.info("[UserService] 유저 탈퇴");
-        User currentUser = getCurrentLoggedInMember();
+        User currentUser = userUtil.getCurrentUserForUpdate();
         currentUser.delete();
         userRepository.save(currentUser);
         return "회원 탈퇴가 성공적으로 처리되었습니다.";
@@ -203,7 +204,7 @@ public class UserServiceImpl implements UserService {
     public void updateMemberPassword(PasswordUpdateCommand command) {
         log.info("[UserService] 비밀번호 변경");
 
-        User user = getCurrentLoggedInMember();
+        User user = userUtil.getCurrentUserForUpdate();
         verifyCurrentPassword(command.currentPassword(), user);
         verifyNewPassword(command.newPassword(), user);
 
@@ -220,8 +221,10 @@ public class UserServiceImpl implements UserService {
     }
 
     public List<ProfileUnlockedResponse> getProfileUnlocked() {
-        User user = getCurrentLoggedInMember();
-        int count = educationStampRepository.countByUser(user);
+        User user = userUtil.getCurrentUser();
+        int count = educationStampCalendarRepository.findByUserId(user.getId())
+                .map(EducationStampCalendar::getTotalCount)
+                .orElse(0);
         int newCount = count / 5 + 5;
         int maxImageNumber = 16; // 현재 이미지가 16번까지 있다고 가정합니다.
         List<ProfileUnlockedResponse> response = new ArrayList<>();
@@ -239,7 +242,7 @@ public class UserServiceImpl implements UserService {
     @Transactional
     public UserProfileDetailResponse updateProfileImage(Integer profileImageNumber) {
         log.info("[UserService] 프로필 이미지 변경");
-        User user = getCurrentLoggedInMember();
+        User user = userUtil.getCurrentUserForUpdate();
         user.setProfileImg(profileImageNumber.toString());
         userRepository.save(user);
         UserProfileDetailResponse response = UserProfileDetailResponse.of(
@@ -286,21 +289,9 @@ public class UserServiceImpl implements UserService {
         return (newValue == null || newValue.isEmpty()) ? currentValue : newValue;
     }
 
-    private User getCurrentLoggedInMember() {
-        Long userId = SecurityUtil.getLoginMemberId()
-                .orElseThrow(NotAuthenticatedException::new);
-        User user = userRepository.findById(userId)
-                .orElseThrow(MemberNotFoundException::new);
-
-        if (user.isDeleted()) {
-            throw new NotAuthenticatedException();
-        }
-        return user;
-    }
-
     @Transactional
     public void updateLanguage(Language language) {
-        User user = getCurrentLoggedInMember();
+        User user = userUtil.getCurrentUserForUpdate();
         user.setLanguage(language);
         userRepository.save(user);
     }
@@ -330,16 +321,13 @@ public class UserServiceImpl implements UserService {
     }
 
     public void validateSignupCommand(MemberSignupCommand command) {
-        // Redis에서 금칙어 목록 가져오기
-        Set<String> forbiddenWords = redisTemplateslang.opsForSet().members(FORBIDDEN_WORDS_KEY);
-
         if (command.userId().length() < 2 || command.userId().length() > 16) {
             throw new UserIdNotValidException();
         }
         if (!command.userId().matches("^[a-zA-Z0-9]+$")) {
             throw new NotAllowedUseridException();
         }
-        if (containsForbiddenWord(command.userId(), forbiddenWords)) {
+        if (forbiddenWordDictionary.containsForbiddenWord(command.userId())) {
             throw new ForbiddenWordContainedException();
         }
         if (command.password().length() < 8 || command.password().length() > 20) {
@@ -354,7 +342,7 @@ public class UserServiceImpl implements UserService {
         if (!command.nickname().matches("^[a-zA-Z0-9가-힣一-亜\u4e00-\u9fa5]+$")) {
             throw new NotAllowedNicknameException();
         }
-        if (containsForbiddenWord(command.nickname(), forbiddenWords)) {
+        if (forbiddenWordDictionary.containsForbiddenWord(command.nickname())) {
             throw new ForbiddenWordContainedException();
         }
         if (!isValidLanguage(command.language())) {
@@ -369,7 +357,6 @@ public class UserServiceImpl implements UserService {
     }
 
     public void validateUpdateProfileCommand(UpdateProfileCommand command) {
-        Set<String> forbiddenWords = redisTemplateslang.opsForSet().members(FORBIDDEN_WORDS_KEY);
         if (command.nickname() != null) {
             if (command.nickname().length() < 2 || command.nickname().length() > 20) {
                 throw new NicknameNotValidExeption();
@@ -380,7 +367,7 @@ public class UserServiceImpl implements UserService {
             if (!command.nickname().matches("^[a-zA-Z0-9가-힣一-亜\u4e00-\u9fa5]+$")) {
                 throw new NotAllowedNicknameException();
             }
-            if (containsForbiddenWord(command.nickname(), forbiddenWords)) {
+            if (forbiddenWordDictionary.containsForbiddenWord(command.nickname())) {
                 throw new ForbiddenWordContainedException();
             }
         }
@@ -394,17 +381,4 @@ public class UserServiceImpl implements UserService {
         }
         return false;
     }
-
-    // 금칙어가 포함되어 있는지 확인하는 메서드
-    private boolean containsForbiddenWord(String text, Set<String> forbiddenWords) {
-        if (forbiddenWords == null || forbiddenWords.isEmpty()) {
-            return false;
-        }
-        for (String word : forbiddenWords) {
-            if (text.contains(word)) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
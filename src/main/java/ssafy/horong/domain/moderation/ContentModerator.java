@@ -0,0 +1,123 @@
+package ssafy.horong.domain.moderation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ssafy.horong.api.community.request.CreateContentByLanguageRequest;
+import ssafy.horong.common.exception.Board.ForbiddenContentException;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글/댓글/채팅 본문의 금칙어 검사.
+ * 금칙어 사전({@link ForbiddenWordDictionary})의 본문용 오토마톤({@link MatchOptions#FREE_TEXT})을 공유하며,
+ * 금칙어가 없는 경우 검사 중 할당이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentModerator {
+
+    private static final char MASK = '*';
+
+    private final ForbiddenWordDictionary forbiddenWordDictionary;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<ModerationTarget, Timer> scanTimers = new EnumMap<>(ModerationTarget.class);
+    private final Map<ModerationTarget, Counter> matchCounters = new EnumMap<>(ModerationTarget.class);
+    // 원문 위치 링 버퍼. 스레드마다 하나를 재사용한다
+    private final ThreadLocal<int[]> positionBuffers = ThreadLocal.withInitial(() -> new int[0]);
+
+    @PostConstruct
+    public void init() {
+        for (ModerationTarget target : ModerationTarget.values()) {
+            String tag = target.name().toLowerCase();
+            scanTimers.put(target, Timer.builder("moderation.scan")
+                    .tag("target", tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            matchCounters.put(target, Counter.builder("moderation.matches")
+                    .tag("target", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 모든 언어의 제목/본문을 한 번씩만 훑고, 하나라도 금칙어가 있으면 거절한다.
+     */
+    public void validate(ModerationTarget target, List<CreateContentByLanguageRequest> contents) {
+        if (contents == null || contents.isEmpty()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        ForbiddenWordAutomaton automaton = forbiddenWordDictionary.freeText();
+        boolean matched = false;
+        for (CreateContentByLanguageRequest content : contents) {
+            if (automaton.containsMatch(content.title()) || automaton.containsMatch(content.content())) {
+                matched = true;
+                break;
+            }
+        }
+        scanTimers.get(target).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        if (matched) {
+            matchCounters.get(target).increment();
+            throw new ForbiddenContentException();
+        }
+    }
+
+    /**
+     * 금칙어 위치를 원문 기준 구간으로 반환한다. 금칙어가 없으면 빈 리스트.
+     */
+    public List<MatchSpan> findMatches(ModerationTarget target, String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        long startedAt = System.nanoTime();
+        ForbiddenWordAutomaton automaton = forbiddenWordDictionary.freeText();
+        List<MatchSpan> spans = List.of();
+        if (automaton.containsMatch(text)) {
+            List<MatchSpan> found = new ArrayList<>();
+            automaton.forEachMatch(text, positionBuffer(automaton.maxWordLength()),
+                    (start, end) -> found.add(new MatchSpan(start, end)));
+            matchCounters.get(target).increment();
+            spans = found;
+        }
+        scanTimers.get(target).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return spans;
+    }
+
+    /**
+     * 금칙어 구간을 '*'로 가린다. 금칙어가 없으면 원래 문자열을 그대로 반환한다.
+     */
+    public String mask(ModerationTarget target, String text) {
+        List<MatchSpan> spans = findMatches(target, text);
+        if (spans.isEmpty()) {
+            return text;
+        }
+        char[] chars = text.toCharArray();
+        for (MatchSpan span : spans) {
+            for (int i = span.start(); i < span.end(); i++) {
+                chars[i] = MASK;
+            }
+        }
+        return new String(chars);
+    }
+
+    private int[] positionBuffer(int minLength) {
+        int[] buffer = positionBuffers.get();
+        if (buffer.length < minLength) {
+            buffer = new int[minLength];
+            positionBuffers.set(buffer);
+        }
+        return buffer;
+    }
+}
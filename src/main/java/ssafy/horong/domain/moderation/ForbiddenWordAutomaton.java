@@ -0,0 +1,347 @@
+package ssafy.horong.domain.moderation;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 금칙어 사전을 컴파일한 Aho-Corasick 오토마톤.
+ * 생성 후에는 불변이므로 여러 스레드에서 동시에 사용할 수 있고, 입력 길이에 비례하는 시간에 검사한다.
+ * <p>
+ * 입력은 {@link #fold(char, MatchOptions)}로 한 글자씩 정규화하면서 진행하므로 검사 중에 문자열을 만들지 않는다.
+ * 사전 단어는 NFKC 정규화 후 같은 규칙으로 접어서 넣는다.
+ * <p>
+ * 정규화와 일치 규칙은 {@link MatchOptions}로 컴파일할 때 정한다.
+ * userId/닉네임은 {@link MatchOptions#IDENTIFIER}, 게시글/댓글/채팅 본문은 {@link MatchOptions#FREE_TEXT}로 검사한다.
+ */
+public final class ForbiddenWordAutomaton {
+
+    static final char IGNORED = '\0';
+    // 구분 문자를 건너뛰지 않는 모드에서 진행 중인 일치를 끊는 글자
+    static final char BREAK = '\uFFFF';
+    // 앞뒤가 영숫자이면 한 토큰으로 이어 주는 구두점 (example.com, user_name, a-b)
+    private static final String CONNECTORS = "._-/@:";
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    // 노드별 전이: 정렬된 문자 배열과 같은 위치의 다음 노드
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    // 이 노드에서 끝나는 금칙어의 (정규화된) 길이, 없으면 0
+    private final int[] matchLength;
+    // fail 체인을 따라 금칙어가 끝나는 다음 노드, 없으면 NONE
+    private final int[] outputLink;
+    private final int wordCount;
+    private final int maxWordLength;
+    private final MatchOptions options;
+
+    /**
+     * 원문 기준 [start, end) 구간으로 금칙어 위치를 받는다.
+     */
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int start, int end);
+    }
+
+    private ForbiddenWordAutomaton(char[][] edgeChars, int[][] edgeTargets, int[] fail,
+                                   int[] matchLength, int[] outputLink, int wordCount, MatchOptions options) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.matchLength = matchLength;
+        this.outputLink = outputLink;
+        this.wordCount = wordCount;
+        this.maxWordLength = Arrays.stream(matchLength).max().orElse(0);
+        this.options = options;
+    }
+
+    public static ForbiddenWordAutomaton compile(Collection<String> words, MatchOptions options) {
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        children.add(new HashMap<>());
+        lengths.add(0);
+
+        int wordCount = 0;
+        for (String word : words) {
+            // 입력은 NFKC 없이 글자 단위로만 접으므로, 반각 가나처럼 NFKC에서 글자 수가 바뀌는 표기는 원형도 함께 넣는다
+            String composed = fold(Normalizer.normalize(word, Normalizer.Form.NFKC), options);
+            String raw = fold(word, options);
+            for (String normalized : composed.equals(raw) ? List.of(composed) : List.of(composed, raw)) {
+                if (!isCompilable(normalized, options)) {
+                    continue;
+                }
+                int node = ROOT;
+                for (int i = 0; i < normalized.length(); i++) {
+                    Integer next = children.get(node).get(normalized.charAt(i));
+                    if (next == null) {
+                        next = children.size();
+                        children.get(node).put(normalized.charAt(i), next);
+                        children.add(new HashMap<>());
+                        lengths.add(0);
+                    }
+                    node = next;
+                }
+                if (lengths.get(node) == 0) {
+                    wordCount++;
+                }
+                lengths.set(node, normalized.length());
+            }
+        }
+
+        int size = children.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            char[] chars = new char[children.get(node).size()];
+            int i = 0;
+            for (char c : children.get(node).keySet()) {
+                chars[i++] = c;
+            }
+            Arrays.sort(chars);
+            int[] targets = new int[chars.length];
+            for (i = 0; i < chars.length; i++) {
+                targets[i] = children.get(node).get(chars[i]);
+            }
+            edgeChars[node] = chars;
+            edgeTargets[node] = targets;
+        }
+
+        int[] matchLength = new int[size];
+        for (int node = 0; node < size; node++) {
+            matchLength[node] = lengths.get(node);
+        }
+        int[] fail = new int[size];
+        int[] outputLink = new int[size];
+        outputLink[ROOT] = NONE;
+
+        // BFS로 fail 링크와 출력 링크를 채운다
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(ROOT);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            char[] chars = edgeChars[node];
+            int[] targets = edgeTargets[node];
+            for (int i = 0; i < chars.length; i++) {
+                int child = targets[i];
+                int failTarget = ROOT;
+                if (node != ROOT) {
+                    int state = fail[node];
+                    while (true) {
+                        int next = child(edgeChars, edgeTargets, state, chars[i]);
+                        if (next != NONE) {
+                            failTarget = next;
+                            break;
+                        }
+                        if (state == ROOT) {
+                            break;
+                        }
+                        state = fail[state];
+                    }
+                }
+                fail[child] = failTarget;
+                outputLink[child] = matchLength[failTarget] > 0 ? failTarget : outputLink[failTarget];
+                queue.add(child);
+            }
+        }
+        return new ForbiddenWordAutomaton(edgeChars, edgeTargets, fail, matchLength, outputLink, wordCount, options);
+    }
+
+    public boolean containsMatch(CharSequence text) {
+        if (text == null || wordCount == 0) {
+            return false;
+        }
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i), options);
+            if (c == IGNORED) {
+                continue;
+            }
+            if (c == BREAK) {
+                state = ROOT;
+                continue;
+            }
+            state = next(state, c);
+            if (!options.tokenBoundary()) {
+                if (matchLength[state] > 0 || outputLink[state] != NONE) {
+                    return true;
+                }
+            } else if (longestBoundedMatch(text, state, i + 1) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 각 위치에서 끝나는 가장 긴 금칙어를 원문 구간으로 알리고, 찾은 개수를 반환한다.
+     * positions는 정규화된 글자의 원문 위치를 담는 링 버퍼로 길이가 {@link #maxWordLength()} 이상이어야 하며,
+     * 호출자가 재사용하면 검사 중 할당이 없다.
+     */
+    public int forEachMatch(CharSequence text, int[] positions, MatchListener listener) {
+        if (text == null || wordCount == 0) {
+            return 0;
+        }
+        int state = ROOT;
+        int folded = 0;
+        int matches = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i), options);
+            if (c == IGNORED) {
+                continue;
+            }
+            if (c == BREAK) {
+                state = ROOT;
+                continue;
+            }
+            positions[folded % positions.length] = i;
+            folded++;
+            state = next(state, c);
+            int length;
+            if (options.tokenBoundary()) {
+                length = longestBoundedMatch(text, state, i + 1);
+            } else {
+                length = matchLength[state] > 0 ? matchLength[state]
+                        : outputLink[state] != NONE ? matchLength[outputLink[state]] : 0;
+            }
+            if (length > 0) {
+                listener.onMatch(positions[(folded - length) % positions.length], i + 1);
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    public MatchOptions options() {
+        return options;
+    }
+
+    public int wordCount() {
+        return wordCount;
+    }
+
+    public int maxWordLength() {
+        return maxWordLength;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int target = child(edgeChars, edgeTargets, state, c);
+            if (target != NONE) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    private static int child(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index >= 0 ? edgeTargets[state][index] : NONE;
+    }
+
+    /**
+     * end에서 끝나는 금칙어 중 단어 경계를 만족하는 가장 긴 것의 길이, 없으면 0.
+     * 구분 문자를 건너뛰지 않는 모드에서만 쓰므로 금칙어는 원문에서 [end - 길이, end)에 연속해 있다.
+     */
+    private int longestBoundedMatch(CharSequence text, int state, int end) {
+        int node = matchLength[state] > 0 ? state : outputLink[state];
+        while (node != NONE) {
+            int start = end - matchLength[node];
+            if (!joinsToken(text, start - 1, -1, text.charAt(start))
+                    && !joinsToken(text, end, 1, text.charAt(end - 1))) {
+                return matchLength[node];
+            }
+            node = outputLink[node];
+        }
+        return 0;
+    }
+
+    /**
+     * 금칙어 끝 글자(edge) 바깥의 index 글자가 같은 토큰으로 이어지는지 본다.
+     * 한글/한자/가나는 조사나 어미를 붙여 쓰므로 경계를 보지 않는다.
+     */
+    private static boolean joinsToken(CharSequence text, int index, int direction, char edge) {
+        if (!isSpaced(edge) || index < 0 || index >= text.length()) {
+            return false;
+        }
+        char c = text.charAt(index);
+        if (Character.isLetterOrDigit(c)) {
+            return true;
+        }
+        int beyond = index + direction;
+        return CONNECTORS.indexOf(c) >= 0 && beyond >= 0 && beyond < text.length()
+                && Character.isLetterOrDigit(text.charAt(beyond));
+    }
+
+    private static boolean isSpaced(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script != Character.UnicodeScript.HANGUL
+                && script != Character.UnicodeScript.HAN
+                && script != Character.UnicodeScript.HIRAGANA
+                && script != Character.UnicodeScript.KATAKANA;
+    }
+
+    private static boolean isCompilable(String normalized, MatchOptions options) {
+        if (normalized.isEmpty() || normalized.indexOf(BREAK) >= 0) {
+            // 구두점이 들어간 단어(.com, Sh!t)는 구분 문자를 건너뛰는 모드에서만 의미가 있다
+            return false;
+        }
+        if (normalized.length() >= options.minSpacedWordLength()) {
+            return true;
+        }
+        return normalized.chars().anyMatch(c -> !isSpaced((char) c));
+    }
+
+    private static String fold(String word, MatchOptions options) {
+        StringBuilder folded = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = fold(word.charAt(i), options);
+            if (c != IGNORED) {
+                folded.append(c);
+            }
+        }
+        return folded.toString();
+    }
+
+    /**
+     * 한 글자를 정규화한다. 전각 영숫자는 반각으로, 대소문자는 소문자로 바꾼다.
+     * foldLeet이면 자주 쓰이는 숫자/기호 치환을 원래 글자로 바꾼다.
+     * 공백/구두점/제로폭 문자는 skipSeparators이면 건너뛰고({@link #IGNORED}), 아니면 일치를 끊는다({@link #BREAK}).
+     */
+    static char fold(char c, MatchOptions options) {
+        if (c >= '\uFF01' && c <= '\uFF5E') {
+            c = (char) (c - 0xFEE0);
+        }
+        if (options.foldLeet()) {
+            switch (c) {
+                case '0':
+                    return 'o';
+                case '1':
+                    return 'i';
+                case '3':
+                    return 'e';
+                case '4':
+                case '@':
+                    return 'a';
+                case '5':
+                case '$':
+                    return 's';
+                default:
+                    break;
+            }
+        }
+        if (Character.isLetterOrDigit(c)) {
+            return Character.toLowerCase(c);
+        }
+        return options.skipSeparators() ? IGNORED : BREAK;
+    }
+}
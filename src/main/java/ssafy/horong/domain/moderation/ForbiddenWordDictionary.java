@@ -0,0 +1,144 @@
+package ssafy.horong.domain.moderation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.FORBIDDEN_WORDS;
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.FORBIDDEN_WORDS_VERSION;
+
+/**
+ * 금칙어 사전. Redis의 금칙어 set을 오토마톤으로 컴파일해 메모리에 들고 있고,
+ * 버전 키가 바뀌었을 때만 다시 읽는다. 검사 자체에는 네트워크 I/O가 없다.
+ * replica에서 새 버전과 이전 단어 목록을 함께 읽으면 버전이 더 바뀌지 않아 계속 이전 사전에 머무르므로, 버전과 단어 목록은 master에서 읽는다.
+ * <p>
+ * 같은 단어 목록을 두 규칙으로 컴파일한다. userId/닉네임은 {@link MatchOptions#IDENTIFIER}({@link #containsForbiddenWord}),
+ * 게시글/댓글/채팅 본문은 {@link MatchOptions#FREE_TEXT}({@link #freeText()})로 검사한다.
+ */
+@Slf4j
+@Component
+public class ForbiddenWordDictionary {
+
+    private static final String CSV_RESOURCE = "slang.csv";
+    private static final String CSV_HEADER = "slang";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private volatile ForbiddenWordAutomaton identifierAutomaton = ForbiddenWordAutomaton.compile(List.of(), MatchOptions.IDENTIFIER);
+    private volatile ForbiddenWordAutomaton freeTextAutomaton = ForbiddenWordAutomaton.compile(List.of(), MatchOptions.FREE_TEXT);
+    private volatile String loadedVersion;
+    private Counter reloadCounter;
+
+    public ForbiddenWordDictionary(@Qualifier("masterStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                   MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        reloadCounter = meterRegistry.counter("forbidden.words.reloads");
+        meterRegistry.gauge("forbidden.words.size", this, dictionary -> dictionary.identifierAutomaton.wordCount());
+        reload();
+    }
+
+    /**
+     * userId/닉네임 검사. 끼워 넣은 공백/기호와 숫자 치환을 무시하고 찾는다.
+     */
+    public boolean containsForbiddenWord(String text) {
+        return identifierAutomaton.containsMatch(text);
+    }
+
+    /**
+     * 게시글/댓글/채팅 본문 검사용 오토마톤.
+     */
+    public ForbiddenWordAutomaton freeText() {
+        return freeTextAutomaton;
+    }
+
+    /**
+     * 다른 노드에서 금칙어가 바뀌었는지 버전 키만 확인한다.
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void reloadIfChanged() {
+        try {
+            String version = redisTemplate.opsForValue().get(FORBIDDEN_WORDS_VERSION);
+            if (!Objects.equals(version, loadedVersion)) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("금칙어 버전 확인 실패, 기존 사전 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 금칙어 set을 변경한 뒤 호출한다. 버전을 올려 모든 노드가 다시 읽도록 하고 이 노드는 즉시 다시 읽는다.
+     */
+    public void markChanged() {
+        redisTemplate.opsForValue().increment(FORBIDDEN_WORDS_VERSION);
+        reload();
+    }
+
+    public synchronized void reload() {
+        long startedAt = System.currentTimeMillis();
+        String version = null;
+        List<String> words;
+        try {
+            version = redisTemplate.opsForValue().get(FORBIDDEN_WORDS_VERSION);
+            Set<String> members = redisTemplate.opsForSet().members(FORBIDDEN_WORDS);
+            words = members == null ? List.of() : new ArrayList<>(members);
+        } catch (Exception e) {
+            log.error("Redis에서 금칙어를 읽지 못함", e);
+            words = List.of();
+        }
+        if (words.isEmpty()) {
+            // Redis가 비어 있거나 읽지 못하면 배포된 CSV로 검사한다
+            words = readClasspathWords();
+            version = null;
+        }
+        words.removeIf(ForbiddenWordDictionary::isHeader);
+
+        identifierAutomaton = ForbiddenWordAutomaton.compile(words, MatchOptions.IDENTIFIER);
+        freeTextAutomaton = ForbiddenWordAutomaton.compile(words, MatchOptions.FREE_TEXT);
+        loadedVersion = version;
+        reloadCounter.increment();
+        log.info("금칙어 사전 로드: {}개(본문용 {}개), version={}, {}ms", identifierAutomaton.wordCount(), freeTextAutomaton.wordCount(), version, System.currentTimeMillis() - startedAt);
+    }
+
+    private List<String> readClasspathWords() {
+        List<String> words = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(CSV_RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.trim();
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        } catch (IOException e) {
+            log.error("금칙어 CSV를 읽지 못함", e);
+        }
+        return words;
+    }
+
+    static boolean isHeader(String word) {
+        return CSV_HEADER.equals(word.replace("\uFEFF", "").trim());
+    }
+}
@@ -0,0 +1,14 @@
+package ssafy.horong.domain.moderation;
+
+import java.util.List;
+
+/**
+ * 금칙어 가져오기 결과. 기존 사전 대비 추가/삭제된 단어를 함께 돌려준다.
+ */
+public record ForbiddenWordImportResult(
+        long total,
+        List<String> added,
+        List<String> removed,
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,124 @@
+package ssafy.horong.domain.moderation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.FORBIDDEN_WORDS;
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.FORBIDDEN_WORDS_STAGING;
+
+/**
+ * 금칙어 파일을 스트리밍으로 읽어 Redis 금칙어 set을 통째로 교체한다.
+ * 임시 키에 pipeline으로 SADD한 뒤 RENAME으로 한 번에 바꾸므로, 검사 쪽은 항상 이전 또는 새 사전 전체만 본다.
+ * SADD 직후의 SCARD/SDIFF가 복제가 늦은 replica에서 읽히지 않도록 master 전용 템플릿을 쓴다.
+ */
+@Slf4j
+@Component
+public class ForbiddenWordImporter {
+
+    // SADD 한 번에 넣는 단어 수와, 한 pipeline에 묶는 SADD 수
+    private static final int BATCH_SIZE = 1_000;
+    private static final int BATCHES_PER_PIPELINE = 10;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ForbiddenWordDictionary forbiddenWordDictionary;
+
+    public ForbiddenWordImporter(@Qualifier("masterStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                 ForbiddenWordDictionary forbiddenWordDictionary) {
+        this.redisTemplate = redisTemplate;
+        this.forbiddenWordDictionary = forbiddenWordDictionary;
+    }
+
+    public synchronized ForbiddenWordImportResult importWords(InputStream inputStream) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        String stagingKey = FORBIDDEN_WORDS_STAGING + startedAt;
+        try {
+            writeStaging(stagingKey, inputStream);
+
+            Long total = redisTemplate.opsForSet().size(stagingKey);
+            if (total == null || total == 0) {
+                throw new IllegalArgumentException("금칙어가 없는 파일은 반영하지 않습니다.");
+            }
+            Set<String> added = redisTemplate.opsForSet().difference(stagingKey, FORBIDDEN_WORDS);
+            Set<String> removed = redisTemplate.opsForSet().difference(FORBIDDEN_WORDS, stagingKey);
+
+            redisTemplate.rename(stagingKey, FORBIDDEN_WORDS);
+            forbiddenWordDictionary.markChanged();
+
+            long elapsedMillis = System.currentTimeMillis() - startedAt;
+            log.info("금칙어 교체 완료: 전체 {}개, 추가 {}개, 삭제 {}개, {}ms",
+                    total, sizeOf(added), sizeOf(removed), elapsedMillis);
+            return new ForbiddenWordImportResult(total, sortedList(added), sortedList(removed), elapsedMillis);
+        } finally {
+            // 실패했다면 임시 키가 남아 있다. 성공했다면 이미 RENAME되어 없다
+            redisTemplate.delete(stagingKey);
+        }
+    }
+
+    private void writeStaging(String stagingKey, InputStream inputStream) throws IOException {
+        List<List<String>> pending = new ArrayList<>();
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.replace("\uFEFF", "").trim();
+                if (word.isEmpty() || ForbiddenWordDictionary.isHeader(word)) {
+                    continue;
+                }
+                batch.add(word);
+                if (batch.size() == BATCH_SIZE) {
+                    pending.add(batch);
+                    batch = new ArrayList<>(BATCH_SIZE);
+                    if (pending.size() == BATCHES_PER_PIPELINE) {
+                        flush(stagingKey, pending);
+                        pending.clear();
+                    }
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            pending.add(batch);
+        }
+        if (!pending.isEmpty()) {
+            flush(stagingKey, pending);
+        }
+    }
+
+    private void flush(String stagingKey, List<List<String>> batches) {
+        byte[] key = stagingKey.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (List<String> words : batches) {
+                sAdd(connection, key, words);
+            }
+            return null;
+        });
+    }
+
+    private static void sAdd(RedisConnection connection, byte[] key, List<String> words) {
+        byte[][] members = new byte[words.size()][];
+        for (int i = 0; i < words.size(); i++) {
+            members[i] = words.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        connection.setCommands().sAdd(key, members);
+    }
+
+    private static int sizeOf(Set<String> words) {
+        return words == null ? 0 : words.size();
+    }
+
+    private static List<String> sortedList(Set<String> words) {
+        return words == null ? List.of() : words.stream().sorted().toList();
+    }
+}
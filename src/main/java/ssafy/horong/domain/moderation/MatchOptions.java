@@ -0,0 +1,34 @@
+package ssafy.horong.domain.moderation;
+
+/**
+ * 금칙어 오토마톤의 정규화/일치 규칙. 사전 단어와 입력에 같은 규칙을 적용하므로 컴파일할 때 정한다.
+ *
+ * @param skipSeparators 공백/구두점/제로폭 문자를 건너뛰어 그 사이로도 이어서 일치시킬지 여부
+ * @param foldLeet       0/1/3/4/5/@/$ 같은 숫자/기호 치환을 원래 글자로 접을지 여부
+ * @param tokenBoundary  띄어쓰기를 하는 문자(라틴 문자, 숫자 등)로 시작하거나 끝나는 금칙어는 단어 경계에서만 일치시킬지 여부
+ * @param minSpacedWordLength 띄어쓰기를 하는 문자로만 된 금칙어의 최소 길이. 이보다 짧은 단어(PM, sb 등 약어)는 사전에서 뺀다
+ */
+public record MatchOptions(
+        boolean skipSeparators,
+        boolean foldLeet,
+        boolean tokenBoundary,
+        int minSpacedWordLength
+) {
+    /**
+     * userId/닉네임 검사용. 짧은 식별자에 끼워 넣은 공백/기호나 숫자 치환으로 우회하는 것을 막는다.
+     * 자유 문장에 쓰면 단어 사이를 이어 붙여 일반 문장도 걸리므로 쓰지 않는다.
+     */
+    public static final MatchOptions IDENTIFIER = new MatchOptions(true, true, false, 1);
+
+    /**
+     * 게시글/댓글/채팅 본문 검사용. 공백/구두점을 넘어 이어 붙이지 않고 치환도 접지 않으며,
+     * 영어 등은 단어 단위로만 일치시킨다. 한글/한자/가나는 조사나 어미를 붙여 쓰므로 경계를 보지 않는다.
+     */
+    public static final MatchOptions FREE_TEXT = new MatchOptions(false, false, true, 3);
+
+    public MatchOptions {
+        if (skipSeparators && tokenBoundary) {
+            throw new IllegalArgumentException("구분 문자를 건너뛰면 단어 경계를 판단할 수 없습니다.");
+        }
+    }
+}
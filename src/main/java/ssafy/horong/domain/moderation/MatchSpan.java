@@ -0,0 +1,10 @@
+package ssafy.horong.domain.moderation;
+
+/**
+ * 원문에서 금칙어가 차지하는 [start, end) 구간.
+ */
+public record MatchSpan(
+        int start,
+        int end
+) {
+}
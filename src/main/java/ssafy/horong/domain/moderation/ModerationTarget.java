@@ -0,0 +1,7 @@
+package ssafy.horong.domain.moderation;
+
+public enum ModerationTarget {
+    POST,
+    COMMENT,
+    MESSAGE
+}
@@ -0,0 +1,81 @@
+package ssafy.horong.domain.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ssafy.horong.api.community.response.NotificationResponse;
+import ssafy.horong.common.properties.NotificationProperties;
+import ssafy.horong.domain.community.model.NotificationDelivery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 알림을 수신자 기준 shard 채널로 모아서 발행한다.
+ * 요청 스레드는 큐에 넣기만 하고, 주기적으로 shard별 한 번의 PUBLISH로 묶어 보낸다.
+ */
+@Slf4j
+@Component
+public class NotificationRedisPublisher {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int shardCount;
+    private final BlockingQueue<NotificationDelivery> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final Counter droppedCounter;
+    private final Counter publishFailureCounter;
+
+    public NotificationRedisPublisher(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                                      NotificationProperties notificationProperties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.shardCount = notificationProperties.shardCount();
+        this.droppedCounter = meterRegistry.counter("notification.publish.dropped");
+        this.publishFailureCounter = meterRegistry.counter("notification.publish.failures");
+        meterRegistry.gauge("notification.publish.queue.size", queue, BlockingQueue::size);
+    }
+
+    public void publish(Long receiverId, NotificationResponse notification) {
+        NotificationDelivery delivery = new NotificationDelivery(receiverId, notification, System.currentTimeMillis());
+        // 큐가 가득 차면 버린다. 알림은 DB에 남아 있으므로 재연결 시 다시 전송됨
+        if (!queue.offer(delivery)) {
+            droppedCounter.increment();
+            log.warn("알림 발행 큐가 가득 차 알림을 버립니다: receiverId={}", receiverId);
+        }
+    }
+
+    @Scheduled(fixedDelay = 50)
+    public void flush() {
+        List<NotificationDelivery> batch = new ArrayList<>();
+        while (queue.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+            Map<Integer, List<NotificationDelivery>> byShard = batch.stream()
+                    .collect(Collectors.groupingBy(delivery -> NotificationDelivery.shardOf(delivery.receiverId(), shardCount)));
+            byShard.forEach(this::publishShard);
+            batch.clear();
+        }
+    }
+
+    private void publishShard(int shard, List<NotificationDelivery> deliveries) {
+        try {
+            redisTemplate.convertAndSend(NotificationDelivery.channelOf(shard), objectMapper.writeValueAsString(deliveries));
+        } catch (JsonProcessingException e) {
+            publishFailureCounter.increment(deliveries.size());
+            log.error("알림 직렬화 실패: shard={}", shard, e);
+        } catch (Exception e) {
+            publishFailureCounter.increment(deliveries.size());
+            log.error("알림 발행 실패: shard={}, size={}", shard, deliveries.size(), e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package ssafy.horong.domain.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ssafy.horong.domain.auth.model.RevokedToken;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.BLACKLIST;
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.BLACKLIST_CHANNEL;
+
+/**
+ * 블랙리스트 토큰의 로컬 사본.
+ * 요청마다 Redis에 묻지 않고 메모리에서 확인하며, 등록은 Redis 저장 후 채널로 다른 노드에 전파한다.
+ * 각 항목은 Redis TTL과 같은 시각에 로컬에서도 만료된다.
+ * <p>
+ * 기동 시 BLACKLIST 키를 SCAN해 채우고, pub/sub 메시지가 유실될 수 있으므로 주기적으로 다시 SCAN해 보정한다.
+ * 클러스터에서는 keyspace notification이 노드별로만 발행되므로 사용하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklist {
+
+    private static final long MAX_LOCAL_ENTRIES = 100_000;
+    private static final long SCAN_COUNT = 1_000;
+    private static final long RESYNC_INTERVAL_MILLIS = 10 * 60 * 1000L;
+    // BlacklistTokenRedisRepository의 기본 TTL (TTL 없이 저장된 키에 적용)
+    private static final long DEFAULT_TTL_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+    private final BlacklistTokenRedisRepository blacklistTokenRedisRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // token -> 만료 시각(epoch millis)
+    private Cache<String, Long> revokedTokens;
+    private final AtomicLong lastSyncedAt = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        revokedTokens = Caffeine.newBuilder()
+                .maximumSize(MAX_LOCAL_ENTRIES)
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String token, Long expiresAt, long currentTime) {
+                        return remainingNanos(expiresAt);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Long expiresAt, long currentTime, long currentDuration) {
+                        return remainingNanos(expiresAt);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Long expiresAt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        meterRegistry.gauge("auth.blacklist.local.size", revokedTokens, Cache::estimatedSize);
+        meterRegistry.gauge("auth.blacklist.sync.age.millis", lastSyncedAt, synced -> synced.get() == 0 ? 0 : System.currentTimeMillis() - synced.get());
+        // 구독을 먼저 걸어 SCAN 도중 등록된 토큰도 놓치지 않는다
+        redisMessageListenerContainer.addMessageListener(this::onRevoked, new ChannelTopic(BLACKLIST_CHANNEL));
+        resync();
+    }
+
+    @Scheduled(initialDelay = RESYNC_INTERVAL_MILLIS, fixedDelay = RESYNC_INTERVAL_MILLIS)
+    public void resync() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            int loaded = loadFromRedis();
+            lastSyncedAt.set(startedAt);
+            log.info("블랙리스트 동기화 완료: {}건, {}ms", loaded, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도. 그 사이에는 pub/sub으로 받은 항목만 사용
+            log.error("블랙리스트 동기화 실패", e);
+        }
+    }
+
+    public boolean contains(String token) {
+        return revokedTokens.getIfPresent(token) != null;
+    }
+
+    public void add(String token, long remainingMillis) {
+        long expiresAt = System.currentTimeMillis() + remainingMillis;
+        blacklistTokenRedisRepository.save(token, TimeUnit.MILLISECONDS.toSeconds(remainingMillis) + 1);
+        revokedTokens.put(token, expiresAt);
+        try {
+            redisTemplate.convertAndSend(BLACKLIST_CHANNEL, objectMapper.writeValueAsString(new RevokedToken(token, expiresAt)));
+        } catch (Exception e) {
+            // Redis에는 저장되었으므로 전파 실패만 기록
+            log.error("블랙리스트 전파 실패", e);
+        }
+    }
+
+    private void onRevoked(Message message, byte[] pattern) {
+        try {
+            RevokedToken revoked = objectMapper.readValue(message.getBody(), RevokedToken.class);
+            if (revoked.expiresAt() > System.currentTimeMillis()) {
+                revokedTokens.put(revoked.token(), revoked.expiresAt());
+            }
+        } catch (Exception e) {
+            log.error("블랙리스트 메시지 역직렬화 실패", e);
+        }
+    }
+
+    private int loadFromRedis() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(BLACKLIST + "*")
+                .count(SCAN_COUNT)
+                .build();
+        int loaded = 0;
+        try (RedisClusterConnection connection = redisConnectionFactory.getClusterConnection()) {
+            for (RedisClusterNode node : connection.clusterGetNodes()) {
+                if (!node.isMaster()) {
+                    continue;
+                }
+                try (Cursor<byte[]> cursor = connection.scan(node, options)) {
+                    while (cursor.hasNext()) {
+                        byte[] key = cursor.next();
+                        Long ttlMillis = connection.keyCommands().pTtl(key);
+                        if (ttlMillis == null || ttlMillis == -2) {
+                            continue;
+                        }
+                        long remainingMillis = ttlMillis == -1 ? DEFAULT_TTL_MILLIS : ttlMillis;
+                        String token = new String(key, StandardCharsets.UTF_8).substring(BLACKLIST.length());
+                        revokedTokens.put(token, System.currentTimeMillis() + remainingMillis);
+                        loaded++;
+                    }
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private static long remainingNanos(long expiresAt) {
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+    }
+}
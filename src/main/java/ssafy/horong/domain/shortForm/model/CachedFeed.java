@@ -0,0 +1,14 @@
+package ssafy.horong.domain.shortForm.model;
+
+import ssafy.horong.api.shortForm.response.ShortFromResponse;
+
+import java.util.List;
+
+/**
+ * 캐시에 저장하는 숏폼 목록. fetchedAt은 데이터 서버 조회를 시작한 시각(epoch millis)이며 0이면 이미 오래된 항목이다.
+ */
+public record CachedFeed(
+        List<ShortFromResponse> items,
+        long fetchedAt
+) {
+}
@@ -0,0 +1,12 @@
+package ssafy.horong.domain.shortForm.model;
+
+import java.util.List;
+
+/**
+ * 다른 노드의 로컬 숏폼 목록 캐시를 비우기 위해 전파하는 메시지.
+ */
+public record FeedInvalidation(
+        Long userId,
+        List<ShortFormFeedType> types
+) {
+}
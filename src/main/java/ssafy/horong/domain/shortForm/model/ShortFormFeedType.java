@@ -0,0 +1,18 @@
+package ssafy.horong.domain.shortForm.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ssafy.horong.common.data.client.DataServerEndpoint;
+
+/**
+ * 사용자별로 캐시하는 숏폼 목록 종류와 각 목록을 가져오는 데이터 서버 엔드포인트.
+ */
+@Getter
+@AllArgsConstructor
+public enum ShortFormFeedType {
+    LIST(DataServerEndpoint.SHORT_FORM_LIST),
+    PREFERENCES(DataServerEndpoint.SHORT_FORM_PREFERENCES),
+    LIKED(DataServerEndpoint.SHORT_FORM_LIKED);
+
+    private final DataServerEndpoint endpoint;
+}
@@ -0,0 +1,14 @@
+package ssafy.horong.domain.shortForm.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 데이터 서버 /shortform/log 요청 본문. 시각은 "yyyy-MM-dd HH:mm:ss" 형식 문자열이다.
+ */
+public record WatchLog(
+        @JsonProperty("shortform_id") Long shortFormId,
+        @JsonProperty("user_id") Long userId,
+        @JsonProperty("start_at") String startAt,
+        @JsonProperty("end_at") String endAt
+) {
+}
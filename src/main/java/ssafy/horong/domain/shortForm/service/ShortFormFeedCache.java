@@ -0,0 +1,280 @@
+package ssafy.horong.domain.shortForm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import ssafy.horong.api.shortForm.response.ShortFromResponse;
+import ssafy.horong.common.properties.ShortFormFeedProperties;
+import ssafy.horong.domain.shortForm.model.CachedFeed;
+import ssafy.horong.domain.shortForm.model.FeedInvalidation;
+import ssafy.horong.domain.shortForm.model.ShortFormFeedType;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.SHORT_FORM_FEED;
+import static ssafy.horong.common.constant.redis.KEY_PREFIX.SHORT_FORM_FEED_CHANNEL;
+
+/**
+ * 사용자별 숏폼 목록 캐시. 노드 로컬 캐시(Caffeine)와 Redis 두 단계로 둔다.
+ * <p>
+ * 로컬 캐시에는 신선한 항목만 두고, Redis에는 신선 기간이 지난 뒤에도 stale 기간 동안 남겨 둔다.
+ * 오래된 항목은 그대로 응답하고 뒤에서 데이터 서버를 다시 조회한다(stale-while-revalidate).
+ * 같은 목록에 대한 데이터 서버 조회는 노드 안에서 하나로 합친다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortFormFeedCache {
+
+    private record FeedKey(Long userId, ShortFormFeedType type) {
+    }
+
+    private enum Lookup {
+        NEAR_HIT, REDIS_HIT, STALE_HIT, MISS
+    }
+
+    private enum Upstream {
+        MISS, REFRESH
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ShortFormFeedProperties shortFormFeedProperties;
+
+    private Cache<FeedKey, CachedFeed> nearCache;
+    // 무효화 전에 시작한 조회가 늦게 끝나 옛 목록을 다시 써넣지 않도록 무효화 시각을 잠시 기억한다
+    private Cache<FeedKey, Long> invalidatedAt;
+    private final Map<FeedKey, Mono<List<ShortFromResponse>>> inflight = new ConcurrentHashMap<>();
+    private final Map<ShortFormFeedType, Map<Lookup, Counter>> lookupCounters = new EnumMap<>(ShortFormFeedType.class);
+    private final Map<ShortFormFeedType, Map<Upstream, Counter>> upstreamCounters = new EnumMap<>(ShortFormFeedType.class);
+
+    @PostConstruct
+    public void init() {
+        long freshForNanos = shortFormFeedProperties.freshFor().toNanos();
+        nearCache = Caffeine.newBuilder()
+                .maximumSize(shortFormFeedProperties.nearMaximumSize())
+                .expireAfter(new Expiry<FeedKey, CachedFeed>() {
+                    @Override
+                    public long expireAfterCreate(FeedKey key, CachedFeed feed, long currentTime) {
+                        return remainingFreshNanos(feed, freshForNanos);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(FeedKey key, CachedFeed feed, long currentTime, long currentDuration) {
+                        return remainingFreshNanos(feed, freshForNanos);
+                    }
+
+                    @Override
+                    public long expireAfterRead(FeedKey key, CachedFeed feed, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        invalidatedAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "shortFormFeed");
+
+        for (ShortFormFeedType type : ShortFormFeedType.values()) {
+            String tag = type.name().toLowerCase();
+            Map<Lookup, Counter> lookups = new EnumMap<>(Lookup.class);
+            for (Lookup lookup : Lookup.values()) {
+                lookups.put(lookup, Counter.builder("shortform.feed.lookups")
+                        .tag("type", tag)
+                        .tag("result", lookup.name().toLowerCase())
+                        .register(meterRegistry));
+            }
+            lookupCounters.put(type, lookups);
+            Map<Upstream, Counter> upstreams = new EnumMap<>(Upstream.class);
+            for (Upstream upstream : Upstream.values()) {
+                upstreams.put(upstream, Counter.builder("shortform.feed.upstream.calls")
+                        .tag("type", tag)
+                        .tag("reason", upstream.name().toLowerCase())
+                        .register(meterRegistry));
+            }
+            upstreamCounters.put(type, upstreams);
+        }
+
+        redisMessageListenerContainer.addMessageListener(this::onInvalidated, new ChannelTopic(SHORT_FORM_FEED_CHANNEL));
+    }
+
+    /**
+     * 캐시된 목록을 반환한다. 없으면 loader로 데이터 서버를 조회해 두 단계 캐시에 모두 넣는다.
+     */
+    public Mono<List<ShortFromResponse>> get(Long userId, ShortFormFeedType type, Supplier<Mono<List<ShortFromResponse>>> loader) {
+        FeedKey key = new FeedKey(userId, type);
+        CachedFeed near = nearCache.getIfPresent(key);
+        if (near != null) {
+            count(type, Lookup.NEAR_HIT);
+            return Mono.just(near.items());
+        }
+        return Mono.fromCallable(() -> Optional.ofNullable(readRedis(key)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> {
+                    if (cached.isEmpty()) {
+                        count(type, Lookup.MISS);
+                        return load(key, loader, Upstream.MISS);
+                    }
+                    CachedFeed feed = cached.get();
+                    if (isFresh(feed)) {
+                        count(type, Lookup.REDIS_HIT);
+                        nearCache.put(key, feed);
+                    } else {
+                        count(type, Lookup.STALE_HIT);
+                        load(key, loader, Upstream.REFRESH).subscribe(
+                                items -> { },
+                                e -> log.warn("숏폼 목록 갱신 실패, 오래된 목록 유지: {} {}", key, e.getMessage()));
+                    }
+                    return Mono.just(feed.items());
+                });
+    }
+
+    /**
+     * 목록을 지운다. 다음 조회는 데이터 서버 응답을 기다린다.
+     */
+    public Mono<Void> invalidate(Long userId, ShortFormFeedType... types) {
+        return Mono.fromRunnable(() -> {
+                    for (ShortFormFeedType type : types) {
+                        FeedKey key = forget(new FeedKey(userId, type));
+                        redisTemplate.delete(redisKey(key));
+                    }
+                    broadcast(userId, types);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.error("숏폼 목록 캐시 무효화 실패: userId={}", userId, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 목록을 오래된 상태로 바꾼다. 다음 조회는 기존 목록을 바로 받고 갱신은 뒤에서 일어난다.
+     */
+    public Mono<Void> markStale(Long userId, ShortFormFeedType... types) {
+        return Mono.fromRunnable(() -> {
+                    for (ShortFormFeedType type : types) {
+                        FeedKey key = forget(new FeedKey(userId, type));
+                        CachedFeed cached = readRedis(key);
+                        if (cached != null) {
+                            writeRedis(key, new CachedFeed(cached.items(), 0), shortFormFeedProperties.staleFor());
+                        }
+                    }
+                    broadcast(userId, types);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.error("숏폼 목록 캐시 갱신 표시 실패: userId={}", userId, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<List<ShortFromResponse>> load(FeedKey key, Supplier<Mono<List<ShortFromResponse>>> loader, Upstream reason) {
+        return inflight.computeIfAbsent(key, k -> {
+            long startedAt = System.currentTimeMillis();
+            upstreamCounters.get(k.type()).get(reason).increment();
+            return loader.get()
+                    .publishOn(Schedulers.boundedElastic())
+                    .doOnNext(items -> store(k, new CachedFeed(items, startedAt)))
+                    .doFinally(signal -> inflight.remove(k))
+                    .cache();
+        });
+    }
+
+    private void store(FeedKey key, CachedFeed feed) {
+        Long invalidated = invalidatedAt.getIfPresent(key);
+        if (invalidated != null && invalidated >= feed.fetchedAt()) {
+            return;
+        }
+        nearCache.put(key, feed);
+        writeRedis(key, feed, shortFormFeedProperties.freshFor().plus(shortFormFeedProperties.staleFor()));
+    }
+
+    private FeedKey forget(FeedKey key) {
+        invalidatedAt.put(key, System.currentTimeMillis());
+        nearCache.invalidate(key);
+        return key;
+    }
+
+    private CachedFeed readRedis(FeedKey key) {
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey(key));
+            return json == null ? null : objectMapper.readValue(json, CachedFeed.class);
+        } catch (Exception e) {
+            // Redis를 읽지 못하면 데이터 서버에서 가져온다
+            log.warn("숏폼 목록 캐시 조회 실패: {} {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(FeedKey key, CachedFeed feed, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(key), objectMapper.writeValueAsString(feed), ttl);
+        } catch (Exception e) {
+            log.warn("숏폼 목록 캐시 저장 실패: {} {}", key, e.getMessage());
+        }
+    }
+
+    private void broadcast(Long userId, ShortFormFeedType... types) {
+        try {
+            redisTemplate.convertAndSend(SHORT_FORM_FEED_CHANNEL,
+                    objectMapper.writeValueAsString(new FeedInvalidation(userId, List.of(types))));
+        } catch (Exception e) {
+            // 다른 노드의 로컬 캐시는 신선 기간이 지나면 스스로 만료된다
+            log.error("숏폼 목록 무효화 전파 실패", e);
+        }
+    }
+
+    private void onInvalidated(Message message, byte[] pattern) {
+        try {
+            FeedInvalidation invalidation = objectMapper.readValue(message.getBody(), FeedInvalidation.class);
+            for (ShortFormFeedType type : invalidation.types()) {
+                forget(new FeedKey(invalidation.userId(), type));
+            }
+        } catch (Exception e) {
+            log.error("숏폼 목록 무효화 메시지 처리 실패", e);
+        }
+    }
+
+    private boolean isFresh(CachedFeed feed) {
+        return System.currentTimeMillis() - feed.fetchedAt() < shortFormFeedProperties.freshFor().toMillis();
+    }
+
+    private void count(ShortFormFeedType type, Lookup lookup) {
+        lookupCounters.get(type).get(lookup).increment();
+    }
+
+    private static String redisKey(FeedKey key) {
+        return SHORT_FORM_FEED + key.userId() + ":" + key.type().name().toLowerCase();
+    }
+
+    private static long remainingFreshNanos(CachedFeed feed, long freshForNanos) {
+        long ageNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - feed.fetchedAt());
+        return Math.max(0, freshForNanos - ageNanos);
+    }
+}
@@ -1,5 +1,6 @@
 package ssafy.horong.domain.shortForm.service;
 
+import reactor.core.publisher.Mono;
 import ssafy.horong.api.shortForm.response.ShortFromListResponse;
 import ssafy.horong.api.shortForm.response.ShortFromResponse;
 import ssafy.horong.domain.shortForm.command.ModifyIsSavedCommand;
@@ -9,11 +10,11 @@ import ssafy.horong.domain.shortForm.command.ModifyPreferenceCommand;
 import java.util.List;
 
 public interface ShortFormService {
-    List<ShortFromResponse> getShortFormList();
-    List<ShortFromResponse> getPreferenceList();
-    List<ShortFromResponse> getLikedList();
-    ShortFromListResponse getShortFormDetail(Long shortFormId);
+    Mono<List<ShortFromResponse>> getShortFormList();
+    Mono<List<ShortFromResponse>> getPreferenceList();
+    Mono<List<ShortFromResponse>> getLikedList();
+    Mono<ShortFromListResponse> getShortFormDetail(Long shortFormId);
     String saveShortFormLog(SaveShortFormLogCommand command);
-    String modifyPreference(ModifyPreferenceCommand command);
-    String modifyIsSaved(ModifyIsSavedCommand command);
+    Mono<String> modifyPreference(ModifyPreferenceCommand command);
+    Mono<String> modifyIsSaved(ModifyIsSavedCommand command);
 }
\ No newline at end of file
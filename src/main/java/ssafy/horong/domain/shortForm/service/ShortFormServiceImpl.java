@@ -3,230 +3,119 @@ package ssafy.horong.domain.shortForm.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import ssafy.horong.api.shortForm.response.ShortFromListResponse;
 import ssafy.horong.api.shortForm.response.ShortFromResponse;
-import ssafy.horong.common.exception.data.DataNotFoundException;
-import ssafy.horong.common.properties.WebClientProperties;
-import ssafy.horong.common.util.SecurityUtil;
+import ssafy.horong.common.data.client.DataServerClient;
 import ssafy.horong.common.util.UserUtil;
 import ssafy.horong.domain.shortForm.command.ModifyIsSavedCommand;
 import ssafy.horong.domain.shortForm.command.SaveShortFormLogCommand;
 import ssafy.horong.domain.shortForm.command.ModifyPreferenceCommand;
+import ssafy.horong.domain.shortForm.model.ShortFormFeedType;
+import ssafy.horong.domain.shortForm.model.WatchLog;
 import java.time.format.DateTimeFormatter;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static ssafy.horong.common.data.client.DataServerEndpoint.*;
+import static ssafy.horong.domain.shortForm.model.ShortFormFeedType.*;
+
+// 데이터 서버 호출과 캐시만 사용하므로 트랜잭션을 걸지 않는다. 사용자 정보는 요청 스레드에서 먼저 꺼내 둔다
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ShortFormServiceImpl implements ShortFormService {
-    private final WebClient webClient;
-    private final WebClientProperties webClientProperties;
+    private static final DateTimeFormatter LOG_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final DataServerClient dataServerClient;
+    private final ShortFormFeedCache shortFormFeedCache;
+    private final WatchLogIngestor watchLogIngestor;
     private final UserUtil userUtil;
 
-    public List<ShortFromResponse> getShortFormList() {
+    public Mono<List<ShortFromResponse>> getShortFormList() {
         // 로그인된 사용자의 ID 가져오기
         Long userId = userUtil.getCurrentUser().getId();
 
-        // 요청 URL 생성
-        String requestUrl = webClientProperties.url() + "/shortform/" + userId;
-
-        // WebClient 호출
-        List<ShortFromResponse> response = webClient.get()
-                .uri(requestUrl)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .defaultIfEmpty("Unknown error")
-                                .flatMap(errorBody -> Mono.error(new DataNotFoundException()))
-                )
-                .bodyToFlux(ShortFromResponse.class)
-                .collectList()
-                .blockOptional()
-                .orElseThrow(DataNotFoundException::new);
-
-        log.info("response: {}", response);
-
-        return response;
+        return shortFormFeedCache.get(userId, LIST, () -> fetchFeed(userId, LIST));
     }
 
-    public List<ShortFromResponse> getPreferenceList() {
+    public Mono<List<ShortFromResponse>> getPreferenceList() {
         // 로그인된 사용자의 ID 가져오기
         Long userId = userUtil.getCurrentUser().getId();
 
-        // 요청 URL 생성
-        String requestUrl = webClientProperties.url() + "/shortform/preference/" + userId;
-
-        // WebClient 호출
-        List<ShortFromResponse> response = webClient.get()
-                .uri(requestUrl)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .defaultIfEmpty("Unknown error")
-                                .flatMap(errorBody -> Mono.error(new DataNotFoundException()))
-                )
-                .bodyToFlux(ShortFromResponse.class)
-                .collectList()
-                .blockOptional()
-                .orElseThrow(DataNotFoundException::new);
-
-        log.info("response: {}", response);
-
-        return response;
+        return shortFormFeedCache.get(userId, PREFERENCES, () -> fetchFeed(userId, PREFERENCES));
     }
 
-    public List<ShortFromResponse> getLikedList() {
+    public Mono<List<ShortFromResponse>> getLikedList() {
         // 로그인된 사용자의 ID 가져오기
         Long userId = userUtil.getCurrentUser().getId();
 
-        // 요청 URL 생성
-        String requestUrl = webClientProperties.url() + "/shortform/is_saved/" + userId;
-
-        // WebClient 호출
-        List<ShortFromResponse> response = webClient.get()
-                .uri(requestUrl)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .defaultIfEmpty("Unknown error")
-                                .flatMap(errorBody -> Mono.error(new DataNotFoundException()))
-                )
-                .bodyToFlux(ShortFromResponse.class)
-                .collectList()
-                .blockOptional()
-                .orElseThrow(DataNotFoundException::new);
-
-        log.info("response: {}", response);
-
-        return response;
+        return shortFormFeedCache.get(userId, LIKED, () -> fetchFeed(userId, LIKED));
     }
 
-    public ShortFromListResponse getShortFormDetail(Long shortFormId) {
-        // 요청 URL 생성
-        String requestUrl = webClientProperties.url() + "/shortform/" + userUtil.getCurrentUser().getId() + "/" + shortFormId;
-
-        // WebClient 호출
-        ShortFromListResponse response = webClient.get()
-                .uri(requestUrl)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .defaultIfEmpty("Unknown error")
-                                .flatMap(errorBody -> Mono.error(new DataNotFoundException()))
-                )
-                .bodyToMono(ShortFromListResponse.class)
-                .blockOptional()
-                .orElseThrow(DataNotFoundException::new);
-
-        log.info("response: {}", response);
-
-        return response;
+    public Mono<ShortFromListResponse> getShortFormDetail(Long shortFormId) {
+        Long userId = userUtil.getCurrentUser().getId();
+
+        return dataServerClient.get(SHORT_FORM_DETAIL, ShortFromListResponse.class, userId, shortFormId)
+                .doOnNext(response -> log.info("response: {}", response));
     }
 
+    // 데이터 서버로는 WatchLogIngestor가 묶어서 보낸다. 여기서는 큐에 넣고 바로 반환한다
     public String saveShortFormLog(SaveShortFormLogCommand command) {
-        // 요청 URL 생성
-        String requestUrl = webClientProperties.url() + "/shortform/log";
         Long userId = userUtil.getCurrentUser().getId();
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        WatchLog watchLog = new WatchLog(
+                command.shortFormId(),
+                userId,
+                command.startAt().format(LOG_TIME_FORMAT), // 날짜 형식 변환
+                command.endAt().format(LOG_TIME_FORMAT)    // 날짜 형식 변환
+        );
 
-        // 요청 바디 생성
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("shortform_id", command.shortFormId());
-        requestBody.put("user_id", userId);
-        requestBody.put("start_at", command.startAt().format(formatter)); // 날짜 형식 변환
-        requestBody.put("end_at", command.endAt().format(formatter));     // 날짜 형식 변환
-
-        log.info("로그 저장 요청: {}", requestBody);
-
-        // WebClient 호출
-        String response = webClient.post()
-                .uri(requestUrl)
-                .body(Mono.just(requestBody), Map.class)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .defaultIfEmpty("Unknown error")
-                                .flatMap(errorBody -> Mono.error(new DataNotFoundException()))
-                )
-                .bodyToMono(String.class)
-                .block();
-
-        log.info("로그 저장 응답: {}", response);
+        if (!watchLogIngestor.submit(watchLog)) {
+            log.warn("시청 로그 큐가 가득 차 로그를 버림: {}", watchLog);
+        }
         return "로그 저장에 성공했습니다.";
     }
 
     // 숏폼 좋아요/싫어요 수정
-    public String modifyPreference(ModifyPreferenceCommand command) {
-        // 요청 URL 생성
-        String requestUrl = webClientProperties.url() + "/shortform/preference";
-
+    public Mono<String> modifyPreference(ModifyPreferenceCommand command) {
         // 요청 바디 생성
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("shortform_id", command.shortFormId());
-        requestBody.put("user_id", userUtil.getCurrentUser().getId());
+        Long userId = userUtil.getCurrentUser().getId();
+        requestBody.put("user_id", userId);
         requestBody.put("preference", command.preference());
         log.info("좋아요/싫어요 수정 요청: {}", requestBody);
 
-        // WebClient 호출
-        String response = webClient.post()
-                .uri(requestUrl)
-                .body(Mono.just(requestBody), Map.class)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .defaultIfEmpty("Unknown error")
-                                .flatMap(errorBody -> Mono.error(new RuntimeException(errorBody)))
-                )
-                .bodyToMono(String.class)
-                .block();
-
-        log.info("좋아요/싫어요 수정 응답: {}", response);
-        return "좋아요/싫어요 반영에 성공했습니다.";
+        return dataServerClient.post(SHORT_FORM_PREFERENCE, requestBody, String.class)
+                .doOnNext(response -> log.info("좋아요/싫어요 수정 응답: {}", response))
+                // 좋아요 목록은 바로 반영하고, 추천 목록은 기존 목록을 보여주면서 뒤에서 다시 받는다
+                .then(shortFormFeedCache.invalidate(userId, PREFERENCES))
+                .then(shortFormFeedCache.markStale(userId, LIST))
+                .thenReturn("좋아요/싫어요 반영에 성공했습니다.");
     }
 
     // 숏폼 스크랩 여부 수정
-    public String modifyIsSaved(ModifyIsSavedCommand command) {
-
-        // 요청 URL 생성
-        String requestUrl = webClientProperties.url() + "/shortform/is_saved";
-
+    public Mono<String> modifyIsSaved(ModifyIsSavedCommand command) {
         // 요청 바디 생성
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("shortform_id", command.shortFormId());
-        requestBody.put("user_id", userUtil.getCurrentUser().getId());
+        Long userId = userUtil.getCurrentUser().getId();
+        requestBody.put("user_id", userId);
         requestBody.put("is_saved", command.isSaved());
 
         log.info("스크랩 여부 수정 요청: {}", requestBody);
 
-        // WebClient 호출
-        String response = webClient.post()
-                .uri(requestUrl)
-                .body(Mono.just(requestBody), Map.class)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .defaultIfEmpty("Unknown error")
-                                .flatMap(errorBody -> Mono.error(new RuntimeException(errorBody)))
-                )
-                .bodyToMono(String.class)
-                .block();
-
-        log.info("스크랩 여부 수정 응답: {}", response);
-        return "스크랩 반영에 성공했습니다.";
+        return dataServerClient.post(SHORT_FORM_SAVED, requestBody, String.class)
+                .doOnNext(response -> log.info("스크랩 여부 수정 응답: {}", response))
+                .then(shortFormFeedCache.invalidate(userId, LIKED))
+                .thenReturn("스크랩 반영에 성공했습니다.");
+    }
+
+    private Mono<List<ShortFromResponse>> fetchFeed(Long userId, ShortFormFeedType type) {
+        return dataServerClient.getList(type.getEndpoint(), ShortFromResponse.class, userId)
+                .doOnNext(response -> log.info("response: {}", response));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,215 @@
+package ssafy.horong.domain.shortForm.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import ssafy.horong.common.data.client.DataServerClient;
+import ssafy.horong.common.exception.data.DataServerUnavailableException;
+import ssafy.horong.common.properties.WatchLogProperties;
+import ssafy.horong.domain.shortForm.model.WatchLog;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static ssafy.horong.common.data.client.DataServerEndpoint.SHORT_FORM_LOG;
+
+/**
+ * 숏폼 시청 로그 수집기. 요청 스레드는 큐에 넣기만 하고 바로 돌아간다.
+ * <p>
+ * 전송 스레드 하나가 batchSize개가 모이거나 flushInterval이 지나면 묶어서 데이터 서버로 보낸다.
+ * 데이터 서버에 일괄 저장 API가 없으므로 묶음 안의 로그는 flushConcurrency개씩 동시에 보내고,
+ * 묶음 전송이 끝날 때까지 다음 묶음을 꺼내지 않는다. 데이터 서버가 느리면 큐가 차고, 가득 차면 새 로그를 버린다.
+ * 시청 로그는 추천용 통계이므로 노드 종료 시 남은 로그를 한 번 보내 보고, 그래도 남으면 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WatchLogIngestor {
+
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(200);
+
+    private final DataServerClient dataServerClient;
+    private final WatchLogProperties watchLogProperties;
+    private final MeterRegistry meterRegistry;
+
+    private BlockingQueue<WatchLog> queue;
+    private Thread flusher;
+    private volatile boolean running = true;
+    // 전송 중에 인터럽트하면 block()이 끊겨 묶음 전체가 버려지므로, 큐를 기다리는 동안에만 인터럽트한다
+    private final Object pollLock = new Object();
+    private boolean polling;
+
+    private Counter acceptedCounter;
+    private Counter sentCounter;
+    private Counter overflowCounter;
+    private Counter failedCounter;
+    private Timer flushTimer;
+    private DistributionSummary batchSizeSummary;
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(watchLogProperties.queueCapacity());
+        registerMetrics();
+        flusher = new Thread(this::runFlushLoop, "watch-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (pollLock) {
+            running = false;
+            if (polling) {
+                flusher.interrupt();
+            }
+        }
+        try {
+            // 전송 중인 묶음이 끝날 때까지 기다린다
+            flusher.join(watchLogProperties.flushTimeout().plus(watchLogProperties.flushInterval()).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<WatchLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("종료 전 남은 시청 로그 전송: {}건", remaining.size());
+            flush(remaining);
+        }
+    }
+
+    /**
+     * 큐에 넣고 바로 반환한다. 큐가 가득 차 있으면 버리고 false를 반환한다.
+     */
+    public boolean submit(WatchLog watchLog) {
+        if (queue.offer(watchLog)) {
+            acceptedCounter.increment();
+            return true;
+        }
+        overflowCounter.increment();
+        return false;
+    }
+
+    private void registerMetrics() {
+        Gauge.builder("shortform.watchlog.queue.depth", this, ingestor -> ingestor.queue.size())
+                .description("전송을 기다리는 시청 로그 수")
+                .register(meterRegistry);
+        acceptedCounter = meterRegistry.counter("shortform.watchlog.accepted");
+        sentCounter = meterRegistry.counter("shortform.watchlog.sent");
+        overflowCounter = meterRegistry.counter("shortform.watchlog.dropped", "reason", "overflow");
+        failedCounter = meterRegistry.counter("shortform.watchlog.dropped", "reason", "failed");
+        flushTimer = Timer.builder("shortform.watchlog.flush")
+                .description("시청 로그 한 묶음을 데이터 서버로 보내는 데 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("shortform.watchlog.batch.size")
+                .register(meterRegistry);
+    }
+
+    private void runFlushLoop() {
+        while (true) {
+            synchronized (pollLock) {
+                if (!running) {
+                    return;
+                }
+                polling = true;
+            }
+            List<WatchLog> batch = new ArrayList<>(watchLogProperties.batchSize());
+            boolean interrupted = false;
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                // 종료 중이다. 이미 꺼낸 로그는 보내고 끝내며, 큐에 남은 로그는 shutdown()이 처리한다
+                interrupted = true;
+            } finally {
+                synchronized (pollLock) {
+                    polling = false;
+                    // 큐를 다 기다린 직후에 들어온 인터럽트가 전송을 끊지 않도록 지운다
+                    Thread.interrupted();
+                }
+            }
+            try {
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (Exception e) {
+                log.error("시청 로그 전송 루프 오류", e);
+            }
+            if (interrupted) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 첫 로그가 들어온 뒤 batchSize개가 모이거나 flushInterval이 지날 때까지 batch에 모은다.
+     */
+    private void collectBatch(List<WatchLog> batch) throws InterruptedException {
+        WatchLog first = queue.poll(watchLogProperties.flushInterval().toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + watchLogProperties.flushInterval().toNanos();
+        while (batch.size() < watchLogProperties.batchSize()) {
+            queue.drainTo(batch, watchLogProperties.batchSize() - batch.size());
+            long remainingNanos = deadline - System.nanoTime();
+            if (batch.size() >= watchLogProperties.batchSize() || remainingNanos <= 0) {
+                break;
+            }
+            WatchLog next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<WatchLog> batch) {
+        long startedAt = System.nanoTime();
+        batchSizeSummary.record(batch.size());
+        try {
+            Flux.fromIterable(batch)
+                    .flatMap(this::send, watchLogProperties.flushConcurrency())
+                    .then()
+                    .block(watchLogProperties.flushTimeout());
+        } catch (Exception e) {
+            // 아직 보내지 못한 로그는 버린다
+            if (Exceptions.unwrap(e) instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                log.error("시청 로그 묶음 전송 중 인터럽트: {}건", batch.size());
+            } else {
+                log.error("시청 로그 묶음 전송 시간 초과 또는 실패: {}건", batch.size(), e);
+            }
+        }
+        flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private Mono<Void> send(WatchLog watchLog) {
+        return dataServerClient.post(SHORT_FORM_LOG, watchLog, String.class)
+                // 4xx는 다시 보내도 같으므로 데이터 서버 장애일 때만 재시도한다
+                .retryWhen(Retry.backoff(watchLogProperties.maxRetries(), RETRY_BACKOFF)
+                        .filter(DataServerUnavailableException.class::isInstance))
+                .doOnSuccess(response -> sentCounter.increment())
+                .onErrorResume(e -> {
+                    failedCounter.increment();
+                    log.warn("시청 로그 전송 실패, 버림: {} {}", watchLog, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -0,0 +1,180 @@
+package ssafy.horong.domain.community.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import ssafy.horong.api.community.response.GetPostResponse;
+import ssafy.horong.common.util.S3Util;
+import ssafy.horong.common.util.UserUtil;
+import ssafy.horong.domain.community.elastic.PostElasticsearchRepository;
+import ssafy.horong.domain.community.entity.BoardType;
+import ssafy.horong.domain.community.entity.Comment;
+import ssafy.horong.domain.community.entity.ContentByLanguage;
+import ssafy.horong.domain.community.entity.Post;
+import ssafy.horong.domain.member.common.Language;
+import ssafy.horong.domain.member.common.MemberRole;
+import ssafy.horong.domain.member.entity.User;
+import ssafy.horong.domain.moderation.ContentModerator;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 게시글 목록 조회가 게시글/댓글 수와 무관하게 고정된 수의 쿼리로 끝나는지 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.globally_quoted_identifiers=true"
+})
+class CommunityServicePostListQueryTest {
+
+    // 게시글 페이지, 게시글 본문, 댓글(+작성자), 댓글 본문, 전체 개수
+    private static final long QUERY_BUDGET = 5;
+
+    @Configuration
+    @EntityScan(basePackages = "ssafy.horong.domain")
+    @EnableJpaRepositories(basePackages = "ssafy.horong.domain")
+    @Import(CommunityServiceImpl.class)
+    static class TestConfig {
+    }
+
+    @Autowired
+    private CommunityService communityService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private PostElasticsearchRepository postElasticsearchRepository;
+
+    @MockBean
+    private S3Util s3Util;
+
+    @MockBean
+    private UserUtil userUtil;
+
+    @MockBean
+    private ContentModerator contentModerator;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        author = createUser("author", "작성자");
+        User viewer = createUser("viewer", "조회자");
+        given(userUtil.getCurrentUser()).willReturn(viewer);
+    }
+
+    @Test
+    void getPostList_queryCountDoesNotGrowWithPageSize() {
+        createPosts(2, 1);
+        long smallPageQueries = countQueries(() -> communityService.getPostList(PageRequest.of(0, 2), BoardType.FREE.name()));
+
+        createPosts(18, 5);
+        long largePageQueries = countQueries(() -> communityService.getPostList(PageRequest.of(0, 20), BoardType.FREE.name()));
+
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+        assertThat(largePageQueries).isLessThanOrEqualTo(QUERY_BUDGET);
+    }
+
+    @Test
+    void getPostList_excludesDeletedPostsInQuery() {
+        createPosts(3, 2);
+        Post deleted = createPost();
+        deleted.setDeletedAt(deleted.getCreatedAt());
+        flushAndClear();
+
+        Page<GetPostResponse> page = communityService.getPostList(PageRequest.of(0, 3), BoardType.FREE.name());
+
+        assertThat(page.getContent()).hasSize(3);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).allSatisfy(post -> {
+            assertThat(post.title()).isEqualTo("제목");
+            assertThat(post.comments()).hasSize(2);
+        });
+    }
+
+    private long countQueries(Runnable action) {
+        flushAndClear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createPosts(int postCount, int commentCount) {
+        for (int i = 0; i < postCount; i++) {
+            Post post = createPost();
+            for (int j = 0; j < commentCount; j++) {
+                createComment(post);
+            }
+        }
+    }
+
+    private Post createPost() {
+        Post post = Post.builder()
+                .type(BoardType.FREE)
+                .author(author)
+                .build();
+        entityManager.persist(post);
+        entityManager.persist(ContentByLanguage.builder()
+                .post(post)
+                .language(Language.KOREAN)
+                .contentType(ContentByLanguage.ContentType.TITLE)
+                .content("제목")
+                .isOriginal(true)
+                .build());
+        entityManager.persist(ContentByLanguage.builder()
+                .post(post)
+                .language(Language.KOREAN)
+                .contentType(ContentByLanguage.ContentType.CONTENT)
+                .content("내용")
+                .isOriginal(true)
+                .build());
+        return post;
+    }
+
+    private void createComment(Post post) {
+        Comment comment = Comment.builder()
+                .board(post)
+                .author(author)
+                .build();
+        entityManager.persist(comment);
+        entityManager.persist(ContentByLanguage.builder()
+                .comment(comment)
+                .language(Language.KOREAN)
+                .content("댓글")
+                .isOriginal(true)
+                .build());
+    }
+
+    private User createUser(String userId, String nickname) {
+        User user = new User(MemberRole.USER);
+        user.setUserId(userId);
+        user.setNickname(nickname);
+        user.setPassword("password");
+        user.setLanguage(Language.KOREAN);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
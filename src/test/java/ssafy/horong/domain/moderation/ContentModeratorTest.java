@@ -0,0 +1,85 @@
+package ssafy.horong.domain.moderation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import ssafy.horong.api.community.request.CreateContentByLanguageRequest;
+import ssafy.horong.common.exception.Board.ForbiddenContentException;
+import ssafy.horong.domain.member.common.Language;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 배포된 slang.csv 전체로 본문 검사를 돌려, 일반 문장은 통과하고 금칙어만 걸리는지 확인한다.
+ */
+class ContentModeratorTest {
+
+    private ContentModerator contentModerator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // Redis가 비어 있으면 사전은 클래스패스의 slang.csv를 읽는다
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.members(anyString())).willReturn(Set.of());
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ForbiddenWordDictionary dictionary = new ForbiddenWordDictionary(redisTemplate, meterRegistry);
+        dictionary.init();
+        contentModerator = new ContentModerator(dictionary, meterRegistry);
+        contentModerator.init();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Hello, I would like to visit Seoul this weekend with my friends",
+            "I'll meet you after lunch at 3 PM",
+            "The assessment is due on Friday, and class starts at 9 AM.",
+            "Is the shop open on Sunday? I'm studying Korean with my classmates.",
+            "안녕하세요, 이번 주말에 친구들과 서울에 가고 싶어요.",
+            "오늘 날씨가 정말 좋네요. 같이 점심 먹을래요?",
+            "지하철 2호선을 타고 강남역에서 내리세요.",
+            "한국어 발음 연습은 https://www.example.com/lesson?id=3 에서 하세요",
+            "문의는 someone@company.com 으로 보내 주세요",
+    })
+    void 일반_문장은_통과한다(String text) {
+        assertThatCode(() -> contentModerator.validate(ModerationTarget.POST, List.of(content(text))))
+                .doesNotThrowAnyException();
+        assertThat(contentModerator.findMatches(ModerationTarget.MESSAGE, text)).isEmpty();
+        assertThat(contentModerator.mask(ModerationTarget.MESSAGE, text)).isSameAs(text);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"you are a bitch", "what the fuck", "병신아 뭐하냐"})
+    void 금칙어가_있으면_거절한다(String text) {
+        assertThatThrownBy(() -> contentModerator.validate(ModerationTarget.COMMENT, List.of(content(text))))
+                .isInstanceOf(ForbiddenContentException.class);
+    }
+
+    @Test
+    void 채팅은_금칙어_구간만_가린다() {
+        assertThat(contentModerator.mask(ModerationTarget.MESSAGE, "Hello, what the fuck is this"))
+                .isEqualTo("Hello, what the **** is this");
+    }
+
+    private static CreateContentByLanguageRequest content(String text) {
+        return new CreateContentByLanguageRequest("제목", text, true, Language.KOREAN);
+    }
+}
@@ -0,0 +1,134 @@
+package ssafy.horong.domain.moderation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 금칙어 오토마톤의 트라이/fail 링크/출력 링크 구성과 두 일치 모드를 확인한다.
+ */
+class ForbiddenWordAutomatonTest {
+
+    @Test
+    void 겹치는_단어는_각_위치에서_끝나는_가장_긴_단어로_알린다() {
+        ForbiddenWordAutomaton automaton = ForbiddenWordAutomaton.compile(
+                List.of("he", "she", "his", "hers"), MatchOptions.IDENTIFIER);
+
+        // "she"는 "he"를 포함하고, "hers"는 fail 링크로 "she"의 "he"에서 이어진다
+        assertThat(matches(automaton, "ushers")).containsExactly("she", "hers");
+        assertThat(automaton.wordCount()).isEqualTo(4);
+        assertThat(automaton.maxWordLength()).isEqualTo(4);
+    }
+
+    @Test
+    void 긴_단어의_중간_상태에서도_출력_링크로_짧은_단어를_찾는다() {
+        ForbiddenWordAutomaton automaton = ForbiddenWordAutomaton.compile(
+                List.of("abcd", "bc"), MatchOptions.IDENTIFIER);
+
+        // "abc" 상태는 단어가 아니지만 출력 링크가 "bc"를 가리킨다
+        assertThat(automaton.containsMatch("abce")).isTrue();
+        assertThat(matches(automaton, "abce")).containsExactly("bc");
+        assertThat(matches(automaton, "abcd")).containsExactly("bc", "abcd");
+    }
+
+    @Test
+    void 실패한_접두사에서_fail_링크를_따라_다시_일치시킨다() {
+        ForbiddenWordAutomaton automaton = ForbiddenWordAutomaton.compile(List.of("aab"), MatchOptions.IDENTIFIER);
+
+        assertThat(matches(automaton, "aaab")).containsExactly("aab");
+        assertThat(automaton.containsMatch("abab")).isFalse();
+    }
+
+    @Test
+    void 반각_전각_표기는_NFKC로_접은_형태와_원형_모두_일치한다() {
+        ForbiddenWordAutomaton automaton = ForbiddenWordAutomaton.compile(
+                List.of("ﾊﾞｶ", "ｒｍｔ"), MatchOptions.IDENTIFIER);
+
+        assertThat(automaton.containsMatch("バカ")).isTrue();
+        assertThat(automaton.containsMatch("ﾊﾞｶ")).isTrue();
+        assertThat(automaton.containsMatch("RMT")).isTrue();
+        assertThat(automaton.containsMatch("ＲＭＴ")).isTrue();
+    }
+
+    @Test
+    void 링_버퍼가_한_바퀴_넘게_돌아도_원문_구간을_돌려준다() {
+        ForbiddenWordAutomaton automaton = ForbiddenWordAutomaton.compile(List.of("abc"), MatchOptions.IDENTIFIER);
+        int[] positions = new int[automaton.maxWordLength()];
+        String text = "zzzzzzzz a-b-c zzzz abc";
+        List<int[]> spans = new ArrayList<>();
+
+        int count = automaton.forEachMatch(text, positions, (start, end) -> spans.add(new int[]{start, end}));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(text.substring(spans.get(0)[0], spans.get(0)[1])).isEqualTo("a-b-c");
+        assertThat(text.substring(spans.get(1)[0], spans.get(1)[1])).isEqualTo("abc");
+    }
+
+    @Test
+    void 식별자_모드는_기호와_숫자_치환을_접는다() {
+        ForbiddenWordAutomaton automaton = ForbiddenWordAutomaton.compile(
+                List.of("ass", "com"), MatchOptions.IDENTIFIER);
+
+        assertThat(automaton.containsMatch("a55")).isTrue();
+        assertThat(automaton.containsMatch("co-m")).isTrue();
+        assertThat(automaton.containsMatch("a s s")).isTrue();
+    }
+
+    @Test
+    void 본문_모드는_구분_문자를_넘거나_치환을_접지_않는다() {
+        ForbiddenWordAutomaton automaton = ForbiddenWordAutomaton.compile(
+                List.of("ass", "com"), MatchOptions.FREE_TEXT);
+
+        assertThat(automaton.containsMatch("a55")).isFalse();
+        assertThat(automaton.containsMatch("co-m")).isFalse();
+        assertThat(automaton.containsMatch("a s s")).isFalse();
+        assertThat(automaton.containsMatch("kiss my ass")).isTrue();
+    }
+
+    @Test
+    void 본문_모드는_라틴_문자_단어를_경계에서만_일치시킨다() {
+        ForbiddenWordAutomaton automaton = ForbiddenWordAutomaton.compile(
+                List.of("hell", "ass", "com"), MatchOptions.FREE_TEXT);
+
+        assertThat(automaton.containsMatch("Hello, I would like to visit Seoul")).isFalse();
+        assertThat(automaton.containsMatch("The assessment is due on Friday")).isFalse();
+        assertThat(automaton.containsMatch("see https://www.example.com/path")).isFalse();
+        assertThat(automaton.containsMatch("mail me at someone@company.com")).isFalse();
+        assertThat(matches(automaton, "go to hell!")).containsExactly("hell");
+    }
+
+    @Test
+    void 본문_모드는_짧은_약어와_기호가_든_단어를_사전에서_뺀다() {
+        ForbiddenWordAutomaton automaton = ForbiddenWordAutomaton.compile(
+                List.of("pm", "sb", ".com", "Sh!t", "병신"), MatchOptions.FREE_TEXT);
+
+        assertThat(automaton.wordCount()).isEqualTo(1);
+        assertThat(automaton.containsMatch("I'll meet you after lunch at 3 PM")).isFalse();
+        assertThat(automaton.containsMatch("google.com")).isFalse();
+    }
+
+    @Test
+    void 본문_모드에서_한글은_조사가_붙어도_일치한다() {
+        ForbiddenWordAutomaton automaton = ForbiddenWordAutomaton.compile(List.of("병신"), MatchOptions.FREE_TEXT);
+
+        assertThat(matches(automaton, "이 병신아")).containsExactly("병신");
+        assertThat(automaton.containsMatch("병 신")).isFalse();
+    }
+
+    @Test
+    void 구분_문자를_건너뛰면서_단어_경계를_볼_수는_없다() {
+        assertThatThrownBy(() -> new MatchOptions(true, false, true, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> matches(ForbiddenWordAutomaton automaton, String text) {
+        List<String> found = new ArrayList<>();
+        automaton.forEachMatch(text, new int[automaton.maxWordLength()],
+                (start, end) -> found.add(text.substring(start, end)));
+        return found;
+    }
+}